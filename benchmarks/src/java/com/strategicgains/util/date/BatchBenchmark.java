@@ -0,0 +1,115 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing and formatting a column of time stamps one row at a time, as one batch with
+ * parseAll() and formatAll(), and as a batch split across ForkJoinPool.commonPool().  Rows cycle through
+ * every input format of TimestampAdapter.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark
+{
+	@Param({"100000"})
+	private int rows;
+
+	private TimestampAdapter adapter;
+	private List<String> column;
+	private long[] epochMillis;
+	private String[] formatted;
+
+	@Setup
+	public void setup()
+	{
+		adapter = new TimestampAdapter();
+		column = new ArrayList<>(rows);
+		epochMillis = new long[rows];
+		formatted = new String[rows];
+
+		for (int i = 0; i < rows; ++i)
+		{
+			column.add(BenchmarkSamples.sample(TIMESTAMP_INPUT_FORMATS[i % TIMESTAMP_INPUT_FORMATS.length]));
+			epochMillis[i] = BenchmarkSamples.EPOCH_MILLIS + i * 1000L;
+		}
+	}
+
+	@Benchmark
+	public long[] parseEachRow()
+	throws ParseException
+	{
+		for (int i = 0; i < rows; ++i)
+		{
+			epochMillis[i] = adapter.parseEpochMillis(column.get(i));
+		}
+
+		return epochMillis;
+	}
+
+	@Benchmark
+	public BitSet parseAll()
+	{
+		return adapter.parseAll(column, epochMillis);
+	}
+
+	@Benchmark
+	public BitSet parseAllParallel()
+	{
+		return adapter.parseAll(column, epochMillis, ForkJoinPool.commonPool());
+	}
+
+	@Benchmark
+	public String[] formatAll()
+	{
+		adapter.formatAll(epochMillis, formatted);
+		return formatted;
+	}
+
+	@Benchmark
+	public String[] formatAllParallel()
+	{
+		adapter.formatAll(epochMillis, formatted, ForkJoinPool.commonPool());
+		return formatted;
+	}
+}
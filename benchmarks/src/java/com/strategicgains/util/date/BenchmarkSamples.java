@@ -0,0 +1,65 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Builds the benchmark inputs: a fixed instant written in each input format, so every format in
+ * DateAdapterConstants is measured with the text it is meant to accept.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class BenchmarkSamples
+{
+	/**
+	 * Wed, 07 Apr 2010 11:52:13.123 GMT
+	 */
+	public static final long EPOCH_MILLIS = 1270641133123L;
+
+	private BenchmarkSamples()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * Formats EPOCH_MILLIS with the pattern.  Zone names are written as GMT (as in HTTP headers), literal
+	 * 'Z' patterns in UTC, and numeric zones as -07:00 so the offset is actually applied when parsing.
+	 */
+	public static String sample(String pattern)
+	{
+		SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+
+		if (pattern.endsWith("'Z'"))
+		{
+			format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		}
+		else if (pattern.indexOf('z') >= 0)
+		{
+			format.setTimeZone(TimeZone.getTimeZone("GMT"));
+		}
+		else
+		{
+			format.setTimeZone(TimeZone.getTimeZone("GMT-07:00"));
+		}
+
+		return format.format(new Date(EPOCH_MILLIS));
+	}
+}
@@ -0,0 +1,88 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two CompiledDateFormat parsing engines on fixed-width patterns: the FixedWidthDateParser
+ * it specializes into and the step interpreter it otherwise uses, with SimpleDateFormat for scale.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledDateFormatBenchmark
+{
+	@Param({"yyyyMMdd", "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", "yyyy-MM-dd'T'HH:mm:ssXXX", "yyyyMMddHHmmss"})
+	private String pattern;
+
+	private String input;
+	private CompiledDateFormat specialized;
+	private CompiledDateFormat interpreted;
+	private SimpleDateFormat simple;
+
+	@Setup
+	public void setup()
+	{
+		input = BenchmarkSamples.sample(pattern);
+		specialized = CompiledDateFormat.compile(pattern);
+		interpreted = CompiledDateFormat.compile(pattern, false);
+		simple = new SimpleDateFormat(pattern, Locale.US);
+		simple.setTimeZone(TimeZone.getTimeZone("UTC"));
+	}
+
+	@Benchmark
+	public long specialized()
+	{
+		return specialized.tryParse(input, 0, input.length());
+	}
+
+	@Benchmark
+	public long interpreted()
+	{
+		return interpreted.tryParse(input, 0, input.length());
+	}
+
+	@Benchmark
+	public Date simpleDateFormat()
+	throws ParseException
+	{
+		return simple.parse(input);
+	}
+}
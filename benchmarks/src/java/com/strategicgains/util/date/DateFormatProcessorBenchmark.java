@@ -0,0 +1,139 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-thread formats reused by DateFormatProcessor against the former strategy of
+ * cloning a DateFormat on every call.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormatProcessorBenchmark
+{
+	@Param({"2010-04-07T11:52:13.123Z", "2010-04-07T1152-0700"})
+	private String input;
+
+	private DateFormatProcessor processor;
+	private DateFormat[] clonedInputFormats;
+	private DateFormat clonedOutputFormat;
+	private Date date;
+
+	@Setup
+	public void setup()
+	{
+		processor = new DateFormatProcessor(TIMESTAMP_OUTPUT_FORMAT, TIMESTAMP_INPUT_FORMATS);
+		clonedInputFormats = new DateFormat[TIMESTAMP_INPUT_FORMATS.length];
+
+		for (int i = 0; i < clonedInputFormats.length; ++i)
+		{
+			clonedInputFormats[i] = new SimpleDateFormat(TIMESTAMP_INPUT_FORMATS[i]);
+			clonedInputFormats[i].setTimeZone(UNIVERSAL_TIME_ZONE);
+		}
+
+		clonedOutputFormat = new SimpleDateFormat(TIMESTAMP_OUTPUT_FORMAT);
+		clonedOutputFormat.setTimeZone(UNIVERSAL_TIME_ZONE);
+		date = new Date(1270641133123L);
+	}
+
+	@Benchmark
+	public Date parsePerThread()
+	throws ParseException
+	{
+		return processor.parse(input);
+	}
+
+	@Benchmark
+	public Date parseClonePerCall()
+	throws ParseException
+	{
+		ParseException first = null;
+
+		for (DateFormat format : clonedInputFormats)
+		{
+			try
+			{
+				return ((DateFormat) format.clone()).parse(input);
+			}
+			catch (ParseException e)
+			{
+				if (first == null)
+				{
+					first = e;
+				}
+			}
+		}
+
+		throw first;
+	}
+
+	@Benchmark
+	public String formatPerThread()
+	{
+		return processor.format(date);
+	}
+
+	@Benchmark
+	public String formatClonePerCall()
+	{
+		return ((DateFormat) clonedOutputFormat.clone()).format(date);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Date parsePerThreadContended()
+	throws ParseException
+	{
+		return processor.parse(input);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Date parseClonePerCallContended()
+	throws ParseException
+	{
+		return parseClonePerCall();
+	}
+}
@@ -0,0 +1,137 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_INPUT_FORMATS;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures HttpHeaderTimestampAdapter parsing each of RFC1123_INPUT_FORMATS, and formatting RFC1123_OUTPUT_FORMAT.
+ * Each benchmark runs single-threaded and, sharing one adapter, on four threads at once.  Run with
+ * -prof gc to see the bytes allocated per operation.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpHeaderTimestampAdapterBenchmark
+{
+	private DateAdapter adapter;
+	private Date date;
+	private StringBuilder text;
+	private byte[] bytes;
+
+	@Setup
+	public void setup()
+	{
+		adapter = new HttpHeaderTimestampAdapter();
+		date = new Date(BenchmarkSamples.EPOCH_MILLIS);
+		text = new StringBuilder(64);
+		bytes = new byte[64];
+	}
+
+	@Benchmark
+	public Date parse(Input input)
+	throws ParseException
+	{
+		return adapter.parse(input.text);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Date parseContended(Input input)
+	throws ParseException
+	{
+		return adapter.parse(input.text);
+	}
+
+	@Benchmark
+	public long parseEpochMillis(Input input)
+	throws ParseException
+	{
+		return adapter.parseEpochMillis(input.text);
+	}
+
+	@Benchmark
+	public String format()
+	{
+		return adapter.format(date);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String formatContended()
+	{
+		return adapter.format(date);
+	}
+
+	@Benchmark
+	public int formatToBytes()
+	{
+		return adapter.formatTo(BenchmarkSamples.EPOCH_MILLIS, bytes, 0);
+	}
+
+	@Benchmark
+	public StringBuilder formatToStringBuilder()
+	throws IOException
+	{
+		text.setLength(0);
+		return adapter.formatTo(BenchmarkSamples.EPOCH_MILLIS, text);
+	}
+
+	/**
+	 * The parse benchmarks run once per input format; the format benchmarks don't depend on it.
+	 */
+	@State(Scope.Benchmark)
+	public static class Input
+	{
+		/**
+		 * Index into RFC1123_INPUT_FORMATS.
+		 */
+		@Param({"0", "1", "2", "3", "4"})
+		private int format;
+
+		private String text;
+
+		@Setup
+		public void setup()
+		{
+			text = BenchmarkSamples.sample(RFC1123_INPUT_FORMATS[format]);
+		}
+	}
+}
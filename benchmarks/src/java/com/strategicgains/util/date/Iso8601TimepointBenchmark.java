@@ -0,0 +1,79 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single-pass Iso8601TimepointParser against the former callback plus SimpleDateFormat path.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Iso8601TimepointBenchmark
+{
+	@Param({"2010-04-07T11:52:13.123Z", "2010-04-07T11:52:13-07:00", "2010-04-07T1152-07"})
+	private String input;
+
+	private Iso8601TimepointParser parser;
+	private Iso8601TimepointCallback callback;
+	private DateFormatProcessor legacy;
+
+	@Setup
+	public void setup()
+	{
+		parser = new Iso8601TimepointParser();
+		callback = new Iso8601TimepointCallback();
+		legacy = new DateFormatProcessor(TIME_POINT_OUTPUT_FORMAT, TIMESTAMP_INPUT_FORMATS);
+	}
+
+	@Benchmark
+	public long parser()
+	throws ParseException
+	{
+		return parser.parse(input);
+	}
+
+	@Benchmark
+	public Date callbackAndSimpleDateFormat()
+	throws ParseException
+	{
+		return legacy.parse(callback.process(input));
+	}
+}
@@ -0,0 +1,219 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util;
+
+import java.text.ParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A TextAdapter decorator that remembers what recent strings parsed to, so a string seen again (e.g. the
+ * same time stamp on many events in one second, or the same date throughout a batch) costs a hash lookup
+ * instead of a parse.  Formatting is passed straight through.
+ * <p>
+ * The cache holds at most maximumSize strings, evicting the least recently used.  Caches of 128 strings
+ * or more are split into up to 16 segments of at least 64 strings each, each guarded by its own lock,
+ * so threads parsing different strings rarely wait on each other.  Eviction is then only approximately
+ * LRU: a full segment drops its own least recently used string even if another segment has room, or
+ * holds older strings.  Smaller caches are a single segment, evicting in exact LRU order.  Strings that
+ * fail to parse are not cached; the exception is thrown every time.  Hits, misses and evictions are
+ * counted for monitoring.
+ * <p>
+ * Cached values are handed out to every caller that parses the same string, so they must not be mutable,
+ * or copy() must be overridden to hand out copies (see CachingDateAdapter).
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachingTextAdapter<T>
+implements TextAdapter<T>
+{
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_SEGMENT_SIZE = 64;
+
+	private TextAdapter<T> adapter;
+	private Segment<T>[] segments;
+	private LongAdder hits = new LongAdder();
+	private LongAdder misses = new LongAdder();
+	private LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param adapter the adapter that does the actual parsing and formatting.
+	 * @param maximumSize the most strings to remember (at least 1).
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public CachingTextAdapter(TextAdapter<T> adapter, int maximumSize)
+	{
+		if (maximumSize < 1)
+		{
+			throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+		}
+
+		// A power of two, so segmentFor() can mask the hash.
+		int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+		int segmentSize = maximumSize / segmentCount;
+		int remainder = maximumSize % segmentCount;
+		this.adapter = adapter;
+		this.segments = new Segment[segmentCount];
+
+		// The first (maximumSize % segmentCount) segments take one more, so the total is exactly maximumSize.
+		for (int i = 0; i < segmentCount; ++i)
+		{
+			segments[i] = new Segment<>(segmentSize + (i < remainder ? 1 : 0), evictions);
+		}
+	}
+
+	@Override
+	public T parse(String value)
+	throws ParseException
+	{
+		Segment<T> segment = segmentFor(value);
+		T parsed;
+
+		synchronized (segment)
+		{
+			parsed = segment.get(value);
+		}
+
+		if (parsed != null)
+		{
+			hits.increment();
+			return copy(parsed);
+		}
+
+		misses.increment();
+		parsed = adapter.parse(value);
+
+		if (parsed != null)
+		{
+			synchronized (segment)
+			{
+				segment.put(value, parsed);
+			}
+		}
+
+		return copy(parsed);
+	}
+
+	@Override
+	public String format(T value)
+	{
+		return adapter.format(value);
+	}
+
+
+	// SECTION: STATISTICS
+
+	public long getHitCount()
+	{
+		return hits.sum();
+	}
+
+	public long getMissCount()
+	{
+		return misses.sum();
+	}
+
+	public long getEvictionCount()
+	{
+		return evictions.sum();
+	}
+
+	/**
+	 * @return the number of strings currently cached.
+	 */
+	public int size()
+	{
+		int size = 0;
+
+		for (Segment<T> segment : segments)
+		{
+			synchronized (segment)
+			{
+				size += segment.size();
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Forgets every cached string.  The counters are left as they are.
+	 */
+	public void clear()
+	{
+		for (Segment<T> segment : segments)
+		{
+			synchronized (segment)
+			{
+				segment.clear();
+			}
+		}
+	}
+
+
+	// SECTION: EXTENSION POINTS
+
+	/**
+	 * Lets a subclass hand out a copy of a cached (or newly cached) value, for mutable types.
+	 */
+	protected T copy(T value)
+	{
+		return value;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private Segment<T> segmentFor(String value)
+	{
+		int hash = value.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+	/**
+	 * An access-ordered LinkedHashMap that drops its least recently used entry when it grows past its
+	 * capacity.  Callers synchronize on the segment.
+	 */
+	private static final class Segment<T>
+	extends LinkedHashMap<String, T>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private int capacity;
+		private LongAdder evictions;
+
+		private Segment(int capacity, LongAdder evictions)
+		{
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, T> eldest)
+		{
+			if (size() > capacity)
+			{
+				evictions.increment();
+				return true;
+			}
+
+			return false;
+		}
+	}
+}
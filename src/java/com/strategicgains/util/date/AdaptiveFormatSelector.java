@@ -0,0 +1,178 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Learns, from the dates a processor actually sees, which input format to try first for the strings the
+ * FormatDispatcher doesn't recognize (e.g. dates with day or month names, or lenient forms such as
+ * single-digit fields).  Used by DateFormatProcessor when adaptive mode is on.
+ * <p>
+ * Each string is reduced to its sample (see FormatDispatcher.sample()), and the format the strict
+ * priority-order scan picks for that sample is remembered, so later strings with the same sample try it
+ * first.  Finding that format the first time tries the formats that have won most often first: once one
+ * accepts the sample, only the formats of higher priority that haven't been tried yet are checked, and
+ * the one of highest priority that accepts it is remembered.  The result is the one strict priority
+ * order gives, found (usually) after a single parse.
+ * <p>
+ * Wins are counted per format in LongAdders, so busy threads don't contend, and roughly every
+ * REORDER_INTERVAL wins the order is re-sorted by them.  The learned samples are bounded by MAX_SAMPLES.
+ * A selector is safe to share between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class AdaptiveFormatSelector
+{
+	private static final int MAX_SAMPLES = 1024;
+	private static final int REORDER_INTERVAL = 1024;
+
+	private LongAdder[] wins;
+	private volatile int[] order;
+	private Map<String, Integer> learned = new ConcurrentHashMap<>();
+
+	AdaptiveFormatSelector(int formatCount)
+	{
+		this.wins = new LongAdder[formatCount];
+
+		for (int i = 0; i < formatCount; ++i)
+		{
+			wins[i] = new LongAdder();
+		}
+
+		this.order = IntStream.range(0, formatCount).toArray();
+	}
+
+	/**
+	 * @param formats the calling thread's copies of the input formats, in priority order.
+	 * @return the index of the format to try first for the text, or -1 if no format accepts its sample.
+	 */
+	int candidate(DateFormat[] formats, String text)
+	{
+		String sample = FormatDispatcher.sample(text);
+		Integer known = learned.get(sample);
+
+		if (known != null)
+		{
+			return known;
+		}
+
+		int candidate = firstAccepting(formats, sample);
+
+		if (learned.size() < MAX_SAMPLES)
+		{
+			learned.put(sample, candidate);
+		}
+
+		return candidate;
+	}
+
+	/**
+	 * Records that the format at index parsed a string, re-sorting the order now and then.
+	 */
+	void won(int index)
+	{
+		wins[index].increment();
+
+		if (ThreadLocalRandom.current().nextInt(REORDER_INTERVAL) == 0)
+		{
+			reorder();
+		}
+	}
+
+	/**
+	 * @return the number of strings each input format has parsed, in priority order.
+	 */
+	long[] getWins()
+	{
+		long[] counts = new long[wins.length];
+
+		for (int i = 0; i < counts.length; ++i)
+		{
+			counts[i] = wins[i].sum();
+		}
+
+		return counts;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	/**
+	 * Finds the format of highest priority that accepts the sample, trying the most frequent winners
+	 * first.
+	 *
+	 * @return the format index, or -1.
+	 */
+	private int firstAccepting(DateFormat[] formats, String sample)
+	{
+		int[] tryOrder = order;
+		ParsePosition position = new ParsePosition(0);
+		boolean[] isTried = new boolean[formats.length];
+
+		for (int i = 0; i < tryOrder.length; ++i)
+		{
+			int index = tryOrder[i];
+			isTried[index] = true;
+
+			if (accepts(formats[index], sample, position))
+			{
+				for (int higher = 0; higher < index; ++higher)
+				{
+					if (!isTried[higher] && accepts(formats[higher], sample, position))
+					{
+						return higher;
+					}
+				}
+
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean accepts(DateFormat format, String sample, ParsePosition position)
+	{
+		position.setIndex(0);
+		position.setErrorIndex(-1);
+		format.parse(sample, position);
+		return position.getIndex() != 0;
+	}
+
+	private void reorder()
+	{
+		long[] counts = getWins();
+		Integer[] indexes = new Integer[counts.length];
+
+		for (int i = 0; i < indexes.length; ++i)
+		{
+			indexes[i] = i;
+		}
+
+		Arrays.sort(indexes, Comparator.comparingLong((Integer i) -> -counts[i]).thenComparingInt(i -> i));
+		order = Arrays.stream(indexes).mapToInt(Integer::intValue).toArray();
+	}
+}
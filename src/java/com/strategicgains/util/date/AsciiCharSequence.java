@@ -0,0 +1,132 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only CharSequence view of US-ASCII bytes in a byte[] or ByteBuffer (heap or direct).  Each
+ * byte is read as the char with the same value, with no charset decoding and no copying, so header
+ * values and JSON fields held as bytes can be handed straight to the parsers.  Bytes above 0x7F read
+ * as the ISO-8859-1 char of the same value, which no date format accepts.
+ * <p>
+ * The view reads the underlying bytes on every access and uses absolute ByteBuffer gets, so it never
+ * changes a buffer's position.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class AsciiCharSequence
+implements CharSequence
+{
+	private byte[] bytes;
+	private ByteBuffer buffer;
+	private int offset;
+	private int length;
+
+	public AsciiCharSequence(byte[] bytes, int offset, int length)
+	{
+		checkRange(bytes.length, offset, length);
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * @param buffer the bytes to view (its position is ignored).
+	 * @param index the absolute index of the first byte.
+	 * @param length the number of bytes.
+	 */
+	public AsciiCharSequence(ByteBuffer buffer, int index, int length)
+	{
+		checkRange(buffer.limit(), index, length);
+
+		if (buffer.hasArray())
+		{
+			this.bytes = buffer.array();
+			this.offset = buffer.arrayOffset() + index;
+		}
+		else
+		{
+			this.buffer = buffer;
+			this.offset = index;
+		}
+
+		this.length = length;
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	@Override
+	public char charAt(int index)
+	{
+		if (index < 0 || index >= length)
+		{
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+		}
+
+		if (bytes != null)
+		{
+			return (char) (bytes[offset + index] & 0xFF);
+		}
+
+		return (char) (buffer.get(offset + index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end)
+	{
+		checkRange(length, start, end - start);
+
+		if (bytes != null)
+		{
+			return new AsciiCharSequence(bytes, offset + start, end - start);
+		}
+
+		return new AsciiCharSequence(buffer, offset + start, end - start);
+	}
+
+	@Override
+	public String toString()
+	{
+		if (bytes != null)
+		{
+			return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+		}
+
+		char[] chars = new char[length];
+
+		for (int i = 0; i < length; ++i)
+		{
+			chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+		}
+
+		return new String(chars);
+	}
+
+	private static void checkRange(int size, int offset, int length)
+	{
+		if (offset < 0 || length < 0 || offset > size - length)
+		{
+			throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + size);
+		}
+	}
+}
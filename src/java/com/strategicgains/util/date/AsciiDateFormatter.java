@@ -0,0 +1,211 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.DATE_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The base of the hand-written formatters.  A subclass writes one fixed output format, in UTC, as
+ * US-ASCII digits and letters straight into a byte[]; this class builds the String, Appendable and
+ * ByteBuffer variants on top of that.  Only the String variant allocates.
+ * <p>
+ * Formatters only handle instants for which isSupported() is true (by default, years EpochDays.MIN_YEAR
+ * to EpochDays.MAX_YEAR).  Callers use SimpleDateFormat for anything else.  Formatters may be shared
+ * between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public abstract class AsciiDateFormatter
+{
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[64]);
+
+	/**
+	 * Answers a hand-written formatter that produces exactly what a UTC SimpleDateFormat with the given
+	 * pattern would: one of the formatters for the standard output formats, a CompiledDateFormat for
+	 * other numeric patterns, or null if the pattern can't be compiled.
+	 * 
+	 * @param pattern a SimpleDateFormat pattern.
+	 * @return a new formatter, or null.
+	 */
+	public static AsciiDateFormatter forPattern(String pattern)
+	{
+		switch (pattern)
+		{
+			case TIMESTAMP_OUTPUT_FORMAT:
+				return new Iso8601TimepointFormatter(true);
+			case TIME_POINT_OUTPUT_FORMAT:
+				return new Iso8601TimepointFormatter(false);
+			case DATE_OUTPUT_FORMAT:
+				return new Iso8601DateFormatter();
+			case RFC1123_OUTPUT_FORMAT:
+				return new CachedHttpDateFormatter();
+			default:
+				return CompiledDateFormat.compile(pattern);
+		}
+	}
+
+	public boolean isSupported(long epochMillis)
+	{
+		return EpochDays.isSupported(epochMillis);
+	}
+
+	/**
+	 * @return the largest number of bytes format() writes.
+	 */
+	public abstract int maxLength();
+
+	/**
+	 * Writes the formatted instant, as US-ASCII, into the array at the given offset.
+	 *
+	 * @param epochMillis a supported instant (see isSupported()).
+	 * @return the offset after the last byte written.
+	 */
+	public abstract int format(long epochMillis, byte[] bytes, int offset);
+
+	/**
+	 * @param epochMillis a supported instant (see isSupported()).
+	 * @return the formatted instant.
+	 */
+	public String format(long epochMillis)
+	{
+		byte[] bytes = SCRATCH.get();
+		int length = format(epochMillis, bytes, 0);
+		return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Appends the formatted instant, one char at a time, without creating a String.
+	 *
+	 * @param epochMillis a supported instant (see isSupported()).
+	 * @param out where to append the characters.
+	 * @throws IOException if the Appendable does.
+	 */
+	public void format(long epochMillis, Appendable out)
+	throws IOException
+	{
+		byte[] bytes = SCRATCH.get();
+		int length = format(epochMillis, bytes, 0);
+
+		for (int i = 0; i < length; ++i)
+		{
+			out.append((char) bytes[i]);
+		}
+	}
+
+	/**
+	 * Writes the formatted instant, as US-ASCII, into a heap or direct buffer at the given absolute
+	 * index.  The buffer's position is left unchanged.
+	 *
+	 * @param epochMillis a supported instant (see isSupported()).
+	 * @return the index after the last byte written.
+	 */
+	public int format(long epochMillis, ByteBuffer buffer, int index)
+	{
+		if (buffer.hasArray())
+		{
+			int offset = buffer.arrayOffset();
+			return format(epochMillis, buffer.array(), offset + index) - offset;
+		}
+
+		byte[] bytes = SCRATCH.get();
+		int length = format(epochMillis, bytes, 0);
+
+		for (int i = 0; i < length; ++i)
+		{
+			buffer.put(index + i, bytes[i]);
+		}
+
+		return index + length;
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * Writes text (e.g. the output of a SimpleDateFormat) into the array as US-ASCII.  Characters outside
+	 * US-ASCII are written as '?'.
+	 *
+	 * @return the offset after the last byte written.
+	 */
+	public static int writeAscii(CharSequence text, byte[] bytes, int offset)
+	{
+		for (int i = 0; i < text.length(); ++i)
+		{
+			bytes[offset + i] = ascii(text.charAt(i));
+		}
+
+		return offset + text.length();
+	}
+
+	/**
+	 * Writes text into a heap or direct buffer, as US-ASCII, at the given absolute index.  Characters
+	 * outside US-ASCII are written as '?'.
+	 *
+	 * @return the index after the last byte written.
+	 */
+	public static int writeAscii(CharSequence text, ByteBuffer buffer, int index)
+	{
+		for (int i = 0; i < text.length(); ++i)
+		{
+			buffer.put(index + i, ascii(text.charAt(i)));
+		}
+
+		return index + text.length();
+	}
+
+	private static byte ascii(char c)
+	{
+		return (byte) (c < 0x80 ? c : '?');
+	}
+
+	/**
+	 * Writes value as count zero-padded decimal digits.
+	 *
+	 * @return the offset after the last digit.
+	 */
+	protected static int digits(int value, int count, byte[] bytes, int offset)
+	{
+		for (int i = offset + count - 1; i >= offset; --i)
+		{
+			bytes[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+
+		return offset + count;
+	}
+
+	/**
+	 * Writes a packed EpochDays.toCivil() date as yyyy-MM-dd.
+	 *
+	 * @return the offset after the last digit.
+	 */
+	protected static int date(int civil, byte[] bytes, int offset)
+	{
+		int i = digits(civil / 10000, 4, bytes, offset);
+		bytes[i++] = '-';
+		i = digits(civil / 100 % 100, 2, bytes, i);
+		bytes[i++] = '-';
+		return digits(civil % 100, 2, bytes, i);
+	}
+}
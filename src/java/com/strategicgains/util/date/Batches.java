@@ -0,0 +1,127 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Splits batches of rows into fixed-size chunks and runs them on an Executor (e.g. a ForkJoinPool).
+ * Each chunk writes its own slice of the caller's arrays, so chunks share nothing but the (thread-safe)
+ * processor, whose per-thread formats are cloned once per worker thread and reused for every chunk the
+ * worker runs.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class Batches
+{
+	/**
+	 * Rows per chunk: enough to amortize handing the chunk to a worker, small enough to keep every worker
+	 * busy until the batch is done.
+	 */
+	static final int CHUNK_SIZE = 4096;
+
+	private Batches()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * Processes the rows from (inclusive) to (exclusive) and returns the ones that failed, numbered from
+	 * from, or null if none did.
+	 */
+	interface Chunk
+	{
+		BitSet process(int from, int to);
+	}
+
+	/**
+	 * Runs size rows through the chunk, on the executor if there is more than one chunk's worth, and
+	 * waits for all of them.
+	 *
+	 * @return the rows that failed.
+	 * @throws RuntimeException (or Error) thrown by a chunk.
+	 */
+	static BitSet run(int size, Executor executor, Chunk chunk)
+	{
+		if (size <= CHUNK_SIZE)
+		{
+			BitSet failures = chunk.process(0, size);
+			return (failures == null ? new BitSet() : failures);
+		}
+
+		List<CompletableFuture<BitSet>> futures = new ArrayList<>();
+
+		for (int from = 0; from < size; from += CHUNK_SIZE)
+		{
+			int start = from;
+			int end = Math.min(size, from + CHUNK_SIZE);
+			futures.add(CompletableFuture.supplyAsync(() -> chunk.process(start, end), executor));
+		}
+
+		BitSet failures = new BitSet();
+
+		for (int c = 0; c < futures.size(); ++c)
+		{
+			BitSet part = join(futures.get(c));
+
+			if (part != null)
+			{
+				for (int i = part.nextSetBit(0); i >= 0; i = part.nextSetBit(i + 1))
+				{
+					failures.set(c * CHUNK_SIZE + i);
+				}
+			}
+		}
+
+		return failures;
+	}
+
+	static void checkLength(int outLength, int size)
+	{
+		if (outLength < size)
+		{
+			throw new IllegalArgumentException("Output length " + outLength + " is less than input size " + size);
+		}
+	}
+
+	private static BitSet join(CompletableFuture<BitSet> future)
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error)
+			{
+				throw (Error) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+/**
+ * An HttpDateFormatter that remembers the last second it formatted.  HTTP-dates only have a resolution
+ * of one second, so a server stamping the Date header on every response formats the same value thousands
+ * of times before it changes.  While the requested instant falls within the remembered second, the
+ * cached String is returned as is.
+ * <p>
+ * The second and its text are published together through a single volatile reference to an immutable
+ * holder, so readers never see a torn pair and no locking is needed.  Concurrent misses may each format
+ * the new second; the last one to publish wins, which is harmless since they produce the same text.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachedHttpDateFormatter
+extends HttpDateFormatter
+{
+	private volatile FormattedSecond cached = new FormattedSecond(Long.MIN_VALUE, null);
+
+	@Override
+	public String format(long epochMillis)
+	{
+		long second = Math.floorDiv(epochMillis, EpochDays.MILLIS_PER_SECOND);
+		FormattedSecond current = cached;
+
+		if (current.second == second)
+		{
+			return current.text;
+		}
+
+		String text = super.format(epochMillis);
+		cached = new FormattedSecond(second, text);
+		return text;
+	}
+
+	private static final class FormattedSecond
+	{
+		private final long second;
+		private final String text;
+
+		private FormattedSecond(long second, String text)
+		{
+			this.second = second;
+			this.text = text;
+		}
+	}
+}
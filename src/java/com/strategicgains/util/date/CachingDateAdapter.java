@@ -0,0 +1,43 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.util.Date;
+
+import com.strategicgains.util.CachingTextAdapter;
+import com.strategicgains.util.TextAdapter;
+
+/**
+ * A CachingTextAdapter for java.util.Date (e.g. around a TimestampAdapter).  A Date is mutable, so the
+ * cache keeps the instant and every parse returns a new Date for it.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachingDateAdapter
+extends CachingTextAdapter<Date>
+{
+	public CachingDateAdapter(TextAdapter<Date> adapter, int maximumSize)
+	{
+		super(adapter, maximumSize);
+	}
+
+	@Override
+	protected Date copy(Date value)
+	{
+		return (value == null ? null : new Date(value.getTime()));
+	}
+}
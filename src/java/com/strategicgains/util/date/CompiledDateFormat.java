@@ -0,0 +1,550 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.util.Arrays;
+
+/**
+ * A SimpleDateFormat pattern compiled into a flat program of parse and print steps, run by a single
+ * switch with no per-call interpretation of the pattern, no virtual calls and no allocation.  Numeric
+ * fields have fixed widths wherever SimpleDateFormat itself would read a fixed width, so for patterns
+ * like yyyy-MM-dd'T'HH:mm:ss.SSS'Z' or yyyyMMdd every field sits at a fixed offset.
+ * <p>
+ * Patterns made of these can be compiled: yyyy, MM or M, dd or d, HH or H, mm or m, ss or s, S (any
+ * count), Z (+HHMM), X, XX or XXX (Z, +HH, +HHMM or +HH:MM), and quoted or unquoted US-ASCII literals.
+ * Anything else (text fields such as EEE, MMM, a or z, two-digit years, 12-hour clocks, week fields)
+ * is left to SimpleDateFormat.
+ * <p>
+ * When every field has a fixed width (an ISO zone may still end the pattern), parsing is handed to a
+ * {@link FixedWidthDateParser}, which reads each field at its precomputed offset; the step interpreter
+ * handles the rest.
+ * <p>
+ * Like the other hand-written parsers, tryParse() is strict: it only accepts the text the pattern
+ * itself produces, with every value in range, the whole text consumed and years from EpochDays.MIN_YEAR
+ * to EpochDays.MAX_YEAR, and then gives exactly the result a lenient UTC SimpleDateFormat would.
+ * Anything else is a miss, for the caller to hand to SimpleDateFormat.  Fields the pattern lacks take
+ * their SimpleDateFormat defaults (1970-01-01T00:00:00.000Z).  Instances are immutable and may be
+ * shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class CompiledDateFormat
+extends AsciiDateFormatter
+{
+	/**
+	 * Returned by tryParse() when the text doesn't match the pattern strictly.
+	 */
+	public static final long INVALID = Long.MIN_VALUE;
+
+	private static final int MAX_LENGTH = 64;
+
+	// Step kinds (shared with FixedWidthDateParser).
+	static final byte LITERAL = 0;
+	static final byte YEAR = 1;
+	static final byte MONTH = 2;
+	static final byte DAY = 3;
+	static final byte HOUR = 4;
+	static final byte MINUTE = 5;
+	static final byte SECOND = 6;
+	static final byte MILLIS = 7;
+	static final byte RFC822_ZONE = 8;
+	static final byte ISO_ZONE = 9;
+
+	private String pattern;
+	private byte[] kinds;
+	private int[] minWidths;		// the literal char, or the count of X for ISO_ZONE
+	private int[] maxWidths;
+	private int maxLength;
+	private FixedWidthDateParser fixedWidth;
+
+	private CompiledDateFormat(String pattern, byte[] kinds, int[] minWidths, int[] maxWidths, int maxLength,
+		boolean isSpecialized)
+	{
+		this.pattern = pattern;
+		this.kinds = kinds;
+		this.minWidths = minWidths;
+		this.maxWidths = maxWidths;
+		this.maxLength = maxLength;
+		this.fixedWidth = (isSpecialized ? FixedWidthDateParser.specialize(kinds, minWidths, maxWidths) : null);
+	}
+
+	/**
+	 * Compiles a SimpleDateFormat pattern.
+	 *
+	 * @param pattern a SimpleDateFormat pattern.
+	 * @return the compiled pattern, or null if it uses anything that can't be compiled.
+	 */
+	public static CompiledDateFormat compile(String pattern)
+	{
+		return compile(pattern, true);
+	}
+
+	/**
+	 * Compiles a SimpleDateFormat pattern, optionally leaving it to the step interpreter even when every
+	 * field has a fixed width (for comparing the two engines).
+	 *
+	 * @param pattern a SimpleDateFormat pattern.
+	 * @param isSpecialized true to parse fixed-width patterns with a FixedWidthDateParser.
+	 * @return the compiled pattern, or null if it uses anything that can't be compiled.
+	 */
+	static CompiledDateFormat compile(String pattern, boolean isSpecialized)
+	{
+		Builder builder = new Builder();
+		int i = 0;
+
+		while (i < pattern.length())
+		{
+			char c = pattern.charAt(i);
+			int end = i + 1;
+
+			if (c == '\'')
+			{
+				if (end < pattern.length() && pattern.charAt(end) == '\'')
+				{
+					builder.literal('\'');
+					++end;
+				}
+				else
+				{
+					for (; end < pattern.length(); ++end)
+					{
+						if (pattern.charAt(end) != '\'')
+						{
+							builder.literal(pattern.charAt(end));
+						}
+						else if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'')
+						{
+							builder.literal('\'');
+							++end;
+						}
+						else
+						{
+							break;
+						}
+					}
+
+					if (end >= pattern.length())
+					{
+						return null;	// unterminated quote
+					}
+
+					++end;
+				}
+			}
+			else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))
+			{
+				while (end < pattern.length() && pattern.charAt(end) == c)
+				{
+					++end;
+				}
+
+				boolean isAbutting = end < pattern.length() && isNumeric(pattern.charAt(end), pattern, end);
+
+				if (!builder.field(c, end - i, isAbutting))
+				{
+					return null;
+				}
+			}
+			else
+			{
+				builder.literal(c);
+			}
+
+			if (!builder.isValid())
+			{
+				return null;
+			}
+
+			i = end;
+		}
+
+		return builder.build(pattern, isSpecialized);
+	}
+
+	/**
+	 * @return the pattern this was compiled from.
+	 */
+	public String getPattern()
+	{
+		return pattern;
+	}
+
+	/**
+	 * @return true if parsing is done by a FixedWidthDateParser rather than the step interpreter.
+	 */
+	boolean isSpecialized()
+	{
+		return fixedWidth != null;
+	}
+
+	/**
+	 * Parses the characters from offset (inclusive) to end (exclusive) with the pattern.
+	 *
+	 * @return the UTC epoch milliseconds, or INVALID if the characters don't match the pattern strictly.
+	 */
+	public long tryParse(CharSequence text, int offset, int end)
+	{
+		if (fixedWidth != null)
+		{
+			return fixedWidth.tryParse(text, offset, end);
+		}
+
+		return interpret(text, offset, end);
+	}
+
+	/**
+	 * Runs the step program over the characters from offset (inclusive) to end (exclusive).
+	 */
+	private long interpret(CharSequence text, int offset, int end)
+	{
+		int year = 1970;
+		int month = 1;
+		int day = 1;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int millis = 0;
+		int offsetMinutes = 0;
+		int i = offset;
+
+		for (int step = 0; step < kinds.length; ++step)
+		{
+			byte kind = kinds[step];
+
+			if (kind == LITERAL)
+			{
+				if (i >= end || text.charAt(i) != minWidths[step])
+				{
+					return INVALID;
+				}
+
+				++i;
+				continue;
+			}
+
+			if (kind == RFC822_ZONE || kind == ISO_ZONE)
+			{
+				if (i >= end)
+				{
+					return INVALID;
+				}
+
+				char sign = text.charAt(i);
+
+				if (kind == ISO_ZONE && sign == 'Z')
+				{
+					++i;
+					continue;
+				}
+
+				if (sign != '+' && sign != '-')
+				{
+					return INVALID;
+				}
+
+				int width = (kind == RFC822_ZONE || minWidths[step] == 2 ? 5 : (minWidths[step] == 1 ? 3 : 6));
+
+				if (i + width > end || (width == 6 && text.charAt(i + 3) != ':'))
+				{
+					return INVALID;
+				}
+
+				int hours = digits(text, i + 1, 2);
+				int minutes = (width == 3 ? 0 : digits(text, i + width - 2, 2));
+
+				if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59)
+				{
+					return INVALID;
+				}
+
+				offsetMinutes = (sign == '-' ? -(hours * 60 + minutes) : hours * 60 + minutes);
+				i += width;
+				continue;
+			}
+
+			int width = 0;
+
+			while (width < maxWidths[step] && i + width < end && isDigit(text.charAt(i + width)))
+			{
+				++width;
+			}
+
+			// A longer run of digits is read whole by SimpleDateFormat, so it isn't ours to parse.
+			if (width < minWidths[step] || (i + width < end && isDigit(text.charAt(i + width)) && !isNumericNext(step)))
+			{
+				return INVALID;
+			}
+
+			int value = digits(text, i, width);
+			i += width;
+
+			switch (kind)
+			{
+				case YEAR:
+					year = value;
+					break;
+				case MONTH:
+					month = value;
+					break;
+				case DAY:
+					day = value;
+					break;
+				case HOUR:
+					hour = value;
+					break;
+				case MINUTE:
+					minute = value;
+					break;
+				case SECOND:
+					second = value;
+					break;
+				default:
+					millis = value;
+					break;
+			}
+		}
+
+		if (i != end
+			|| year < EpochDays.MIN_YEAR || year > EpochDays.MAX_YEAR
+			|| !EpochDays.isValid(year, month, day)
+			|| hour > 23 || minute > 59 || second > 59 || millis > 999)
+		{
+			return INVALID;
+		}
+
+		return EpochDays.toEpochMillis(year, month, day, hour, minute, second, millis)
+			- offsetMinutes * EpochDays.MILLIS_PER_MINUTE;
+	}
+
+	@Override
+	public int maxLength()
+	{
+		return maxLength;
+	}
+
+	@Override
+	public int format(long epochMillis, byte[] bytes, int offset)
+	{
+		long epochDay = Math.floorDiv(epochMillis, EpochDays.MILLIS_PER_DAY);
+		int civil = EpochDays.toCivil(epochDay);
+		int millisOfDay = (int) (epochMillis - epochDay * EpochDays.MILLIS_PER_DAY);
+		int i = offset;
+
+		for (int step = 0; step < kinds.length; ++step)
+		{
+			switch (kinds[step])
+			{
+				case LITERAL:
+					bytes[i++] = (byte) minWidths[step];
+					break;
+				case YEAR:
+					i = number(civil / 10000, minWidths[step], bytes, i);
+					break;
+				case MONTH:
+					i = number(civil / 100 % 100, minWidths[step], bytes, i);
+					break;
+				case DAY:
+					i = number(civil % 100, minWidths[step], bytes, i);
+					break;
+				case HOUR:
+					i = number(millisOfDay / 3600000, minWidths[step], bytes, i);
+					break;
+				case MINUTE:
+					i = number(millisOfDay / 60000 % 60, minWidths[step], bytes, i);
+					break;
+				case SECOND:
+					i = number(millisOfDay / 1000 % 60, minWidths[step], bytes, i);
+					break;
+				case MILLIS:
+					i = number(millisOfDay % 1000, minWidths[step], bytes, i);
+					break;
+				case RFC822_ZONE:
+					bytes[i++] = '+';
+					i = digits(0, 4, bytes, i);
+					break;
+				default:
+					bytes[i++] = 'Z';
+					break;
+			}
+		}
+
+		return i;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private boolean isNumericNext(int step)
+	{
+		return step + 1 < kinds.length && kinds[step + 1] >= YEAR && kinds[step + 1] <= MILLIS;
+	}
+
+	/**
+	 * Answers whether the pattern letter at index starts a numeric field, the case in which
+	 * SimpleDateFormat reads the field before it with a fixed width.
+	 */
+	private static boolean isNumeric(char c, String pattern, int index)
+	{
+		if (c == 'M' || c == 'L')
+		{
+			int count = 0;
+
+			while (index + count < pattern.length() && pattern.charAt(index + count) == c)
+			{
+				++count;
+			}
+
+			return count <= 2;
+		}
+
+		return "yYudDFwWHkKhmsS".indexOf(c) >= 0;
+	}
+
+	/**
+	 * Writes value with at least count digits, zero-padded, as SimpleDateFormat does.
+	 */
+	private static int number(int value, int count, byte[] bytes, int offset)
+	{
+		int width = 1;
+
+		for (int v = value; v >= 10; v /= 10)
+		{
+			++width;
+		}
+
+		return digits(value, Math.max(width, count), bytes, offset);
+	}
+
+	/**
+	 * @return the value of count digits starting at i, or -1 if they are not all digits.
+	 */
+	private static int digits(CharSequence text, int i, int count)
+	{
+		int value = 0;
+
+		for (int j = i; j < i + count; ++j)
+		{
+			int digit = text.charAt(j) - '0';
+
+			if (digit < 0 || digit > 9)
+			{
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Collects the steps while a pattern is compiled.
+	 */
+	private static final class Builder
+	{
+		private byte[] kinds = new byte[16];
+		private int[] minWidths = new int[16];
+		private int[] maxWidths = new int[16];
+		private int count = 0;
+		private int maxLength = 0;
+		private boolean isValid = true;
+
+		private void literal(char c)
+		{
+			if (c > 0x7F || isDigit(c))
+			{
+				isValid = false;	// only US-ASCII is written, and a digit would run into the fields.
+				return;
+			}
+
+			add(LITERAL, c, c, 1);
+		}
+
+		/**
+		 * @return false if the field can't be compiled.
+		 */
+		private boolean field(char letter, int count, boolean isAbutting)
+		{
+			int max = (isAbutting ? count : Math.max(count, 2));
+
+			switch (letter)
+			{
+				case 'y':
+					return (count == 4 && add(YEAR, 4, 4, 4));
+				case 'M':
+					return (count <= 2 && add(MONTH, count, max, 2));
+				case 'd':
+					return (count <= 2 && add(DAY, count, max, 2));
+				case 'H':
+					return (count <= 2 && add(HOUR, count, max, 2));
+				case 'm':
+					return (count <= 2 && add(MINUTE, count, max, 2));
+				case 's':
+					return (count <= 2 && add(SECOND, count, max, 2));
+				case 'S':
+					return add(MILLIS, count, (isAbutting ? count : Math.max(count, 3)), Math.max(count, 3));
+				case 'Z':
+					return add(RFC822_ZONE, 5, 5, 5);
+				case 'X':
+					return (count <= 3 && add(ISO_ZONE, count, count, 1));
+				default:
+					return false;
+			}
+		}
+
+		private boolean add(byte kind, int minWidth, int maxWidth, int length)
+		{
+			if (count == kinds.length)
+			{
+				kinds = Arrays.copyOf(kinds, count * 2);
+				minWidths = Arrays.copyOf(minWidths, count * 2);
+				maxWidths = Arrays.copyOf(maxWidths, count * 2);
+			}
+
+			kinds[count] = kind;
+			minWidths[count] = minWidth;
+			maxWidths[count] = maxWidth;
+			++count;
+			maxLength += length;
+			return true;
+		}
+
+		private boolean isValid()
+		{
+			return isValid && maxLength <= MAX_LENGTH;
+		}
+
+		private CompiledDateFormat build(String pattern, boolean isSpecialized)
+		{
+			if (count == 0)
+			{
+				return null;
+			}
+
+			return new CompiledDateFormat(pattern, Arrays.copyOf(kinds, count), Arrays.copyOf(minWidths, count),
+				Arrays.copyOf(maxWidths, count), maxLength, isSpecialized);
+		}
+	}
+}
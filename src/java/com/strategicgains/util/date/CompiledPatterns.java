@@ -0,0 +1,193 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Everything a DateFormatProcessor builds from its pattern Strings: the UTC SimpleDateFormats, the
+ * hand-written or compiled output formatter, the FormatDispatcher and the compiled input formats.
+ * Building these costs far more than the processor itself (each SimpleDateFormat compiles its pattern
+ * and loads locale data, and the dispatcher runs every sample shape through every format), so they are
+ * built once per pattern set, output locale and default locale and shared by every processor created
+ * with the same patterns afterwards, e.g. by each of the adapters a service creates at startup.
+ * <p>
+ * All of it is immutable once built: the SimpleDateFormats are only ever cloned (each thread parses
+ * and formats with its own copies) or asked for their pattern, never used directly.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class CompiledPatterns
+{
+	/**
+	 * The most pattern sets kept.  Beyond that, patterns are compiled for each processor, as before.
+	 */
+	private static final int MAX_CACHED = 256;
+	private static final ConcurrentMap<List<String>, CompiledPatterns> CACHE = new ConcurrentHashMap<>();
+	private static final long SAMPLE = 784111777123L;	// Sun, 06 Nov 1994 08:49:37.123 GMT
+
+	private SimpleDateFormat outputFormat;
+	private SimpleDateFormat[] inputFormats;
+	private AsciiDateFormatter outputFormatter;
+	private FormatDispatcher dispatcher;
+	private CompiledDateFormat[] compiledInputs;
+
+	private CompiledPatterns(String outputFormat, Locale outputLocale, String[] inputFormats)
+	{
+		this.outputFormat = new SimpleDateFormat(outputFormat, outputLocale);
+		this.outputFormat.setTimeZone(UNIVERSAL_TIME_ZONE);
+		this.inputFormats = new SimpleDateFormat[inputFormats.length];
+
+		for (int i = 0; i < this.inputFormats.length; ++i)
+		{
+			this.inputFormats[i] = new SimpleDateFormat(inputFormats[i]);
+			this.inputFormats[i].setTimeZone(UNIVERSAL_TIME_ZONE);
+		}
+
+		this.outputFormatter = verify(AsciiDateFormatter.forPattern(outputFormat), this.outputFormat);
+		this.dispatcher = FormatDispatcher.compile(this.inputFormats);
+		this.compiledInputs = compile(inputFormats, this.inputFormats);
+	}
+
+	/**
+	 * @param outputLocale the locale of the output format.
+	 * @return the compiled patterns, shared with every earlier caller that gave the same patterns and
+	 * output locale under the same default locale.
+	 */
+	static CompiledPatterns of(String outputFormat, Locale outputLocale, String[] inputFormats)
+	{
+		List<String> key = new ArrayList<>(inputFormats.length + 3);
+		key.add(Locale.getDefault(Locale.Category.FORMAT).toLanguageTag());
+		key.add(outputLocale.toLanguageTag());
+		key.add(outputFormat);
+		key.addAll(Arrays.asList(inputFormats));
+		CompiledPatterns patterns = CACHE.get(key);
+
+		if (patterns == null)
+		{
+			patterns = new CompiledPatterns(outputFormat, outputLocale, inputFormats);
+
+			if (CACHE.size() < MAX_CACHED)
+			{
+				CompiledPatterns existing = CACHE.putIfAbsent(key, patterns);
+				patterns = (existing == null ? patterns : existing);
+			}
+		}
+
+		return patterns;
+	}
+
+	/**
+	 * @return the UTC output format, to be cloned and never used directly.
+	 */
+	SimpleDateFormat getOutputFormat()
+	{
+		return outputFormat;
+	}
+
+	/**
+	 * @return the UTC input formats, in priority order, to be cloned and never used directly.
+	 */
+	SimpleDateFormat[] getInputFormats()
+	{
+		return inputFormats;
+	}
+
+	/**
+	 * @return the hand-written or compiled output formatter, or null if output needs SimpleDateFormat.
+	 */
+	AsciiDateFormatter getOutputFormatter()
+	{
+		return outputFormatter;
+	}
+
+	/**
+	 * @return the dispatcher for the input formats, or null if they can't be dispatched by shape.
+	 */
+	FormatDispatcher getDispatcher()
+	{
+		return dispatcher;
+	}
+
+	/**
+	 * @return the compiled input formats, with nulls for those that can't be compiled, or null if none can.
+	 */
+	CompiledDateFormat[] getCompiledInputs()
+	{
+		return compiledInputs;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	/**
+	 * Compiles the input patterns, keeping each one only if it parses what its SimpleDateFormat writes
+	 * to the same instant (which, as for the output formatter, rules out locales with their own digits).
+	 */
+	private static CompiledDateFormat[] compile(String[] patterns, DateFormat[] formats)
+	{
+		CompiledDateFormat[] compiled = new CompiledDateFormat[patterns.length];
+		boolean isEmpty = true;
+
+		for (int i = 0; i < patterns.length; ++i)
+		{
+			CompiledDateFormat format = CompiledDateFormat.compile(patterns[i]);
+
+			if (format == null)
+			{
+				continue;
+			}
+
+			String text = formats[i].format(new Date(SAMPLE));
+			ParsePosition position = new ParsePosition(0);
+			Date expected = formats[i].parse(text, position);
+
+			if (expected != null && format.tryParse(text, 0, text.length()) == expected.getTime())
+			{
+				compiled[i] = format;
+				isEmpty = false;
+			}
+		}
+
+		return (isEmpty ? null : compiled);
+	}
+
+	/**
+	 * Only keeps the hand-written formatter if it writes exactly what the SimpleDateFormat does, which
+	 * isn't the case if, say, the default locale has its own month names or digits.
+	 */
+	private static AsciiDateFormatter verify(AsciiDateFormatter formatter, DateFormat format)
+	{
+		if (formatter == null || !formatter.format(SAMPLE).equals(format.format(new Date(SAMPLE))))
+		{
+			return null;
+		}
+
+		return formatter;
+	}
+}
@@ -17,11 +17,15 @@
 
 package com.strategicgains.util.date;
 
-import static com.strategicgains.util.date.DateAdapterConstants.DATE_INPUT_FORMATS;
-import static com.strategicgains.util.date.DateAdapterConstants.DATE_OUTPUT_FORMAT;
-
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Date;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.Executor;
 
 import com.strategicgains.util.AdapterCallback;
 import com.strategicgains.util.TextAdapter;
@@ -52,12 +56,20 @@ implements TextAdapter<Date>
 
 	public DateAdapter()
 	{
-		this(DATE_OUTPUT_FORMAT, DATE_INPUT_FORMATS);
+		this(new Iso8601DateProcessor());
 	}
 	
 	public DateAdapter(String outputFormat, String... inputFormats)
 	{
-		this.processor = new DateFormatProcessor(outputFormat, inputFormats);
+		this(new DateFormatProcessor(outputFormat, inputFormats));
+	}
+
+	/**
+	 * Lets subclasses supply a specialized processor (e.g. one with a hand-written fast path).
+	 */
+	protected DateAdapter(DateFormatProcessor processor)
+	{
+		this.processor = processor;
 	}
 
 	
@@ -79,6 +91,24 @@ implements TextAdapter<Date>
 	}
 
 	
+	// SECTION: ADAPTIVE MODE
+
+	/**
+	 * Turns adaptive format selection on or off for this adapter's processor.
+	 * 
+	 * @see DateFormatProcessor#setAdaptive(boolean)
+	 */
+	public void setAdaptive(boolean isAdaptive)
+	{
+		processor.setAdaptive(isAdaptive);
+	}
+
+	public boolean isAdaptive()
+	{
+		return processor.isAdaptive();
+	}
+
+	
 	// SECTION: FORMATTING
 
 	public void setPostFormatCallback(AdapterCallback<String> postFormatCallback) {
@@ -101,6 +131,350 @@ implements TextAdapter<Date>
 		String string = processor.format(preprocessed);
 		return afterFormat(string);
 	}
+
+	/**
+	 * Parses the date occupying length characters of src, starting at offset, without first copying it
+	 * into a String (unless a pre-parse callback is registered, since callbacks work on Strings).
+	 * 
+	 * @param src the characters containing the date.
+	 * @param offset index of the first character of the date.
+	 * @param length the number of characters in the date.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 * @see DateFormatProcessor#parse(CharSequence, int, int)
+	 */
+	public Date parse(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		if (preParseCallback != null)
+		{
+			return parse(src.subSequence(offset, offset + length).toString());
+		}
+
+		return afterParse(processor.parse(src, offset, length));
+	}
+
+	/**
+	 * Parses a date held as US-ASCII bytes, reading them in place with no charset decoding.
+	 * 
+	 * @param bytes the bytes containing the date.
+	 * @param offset index of the first byte of the date.
+	 * @param length the number of bytes in the date.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 * @see AsciiCharSequence
+	 */
+	public Date parse(byte[] bytes, int offset, int length)
+	throws ParseException
+	{
+		return parse(new AsciiCharSequence(bytes, offset, length), 0, length);
+	}
+
+	/**
+	 * Parses a date held as US-ASCII bytes in a heap or direct buffer, reading them in place with no
+	 * charset decoding.  The buffer's position is left unchanged.
+	 * 
+	 * @param buffer the buffer containing the date.
+	 * @param index the absolute index of the first byte of the date.
+	 * @param length the number of bytes in the date.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 * @see AsciiCharSequence
+	 */
+	public Date parse(ByteBuffer buffer, int index, int length)
+	throws ParseException
+	{
+		return parse(new AsciiCharSequence(buffer, index, length), 0, length);
+	}
+
+	/**
+	 * Parses the text straight to UTC epoch milliseconds.  When no parse callbacks are registered, no
+	 * java.util.Date is created (given a processor with a hand-written parser); otherwise this is the
+	 * same as parse(text.toString()).getTime().
+	 * 
+	 * @param text a date string in one of the acceptable formats.
+	 * @return the epoch milliseconds.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 */
+	public long parseEpochMillis(CharSequence text)
+	throws ParseException
+	{
+		return parseEpochMillis(text, 0, text.length());
+	}
+
+	/**
+	 * Parses the date occupying length characters of src, starting at offset, straight to UTC epoch
+	 * milliseconds.
+	 * 
+	 * @param src the characters containing the date.
+	 * @param offset index of the first character of the date.
+	 * @param length the number of characters in the date.
+	 * @return the epoch milliseconds.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 * @see #parseEpochMillis(CharSequence)
+	 */
+	public long parseEpochMillis(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		if (preParseCallback == null && postParseCallback == null)
+		{
+			return processor.parseEpochMillis(src, offset, length);
+		}
+
+		return parse(src, offset, length).getTime();
+	}
+
+	/**
+	 * Parses a date held as US-ASCII bytes straight to UTC epoch milliseconds.
+	 * 
+	 * @see #parse(byte[], int, int)
+	 */
+	public long parseEpochMillis(byte[] bytes, int offset, int length)
+	throws ParseException
+	{
+		return parseEpochMillis(new AsciiCharSequence(bytes, offset, length), 0, length);
+	}
+
+	/**
+	 * Parses a date held as US-ASCII bytes in a heap or direct buffer straight to UTC epoch milliseconds.
+	 * 
+	 * @see #parse(ByteBuffer, int, int)
+	 */
+	public long parseEpochMillis(ByteBuffer buffer, int index, int length)
+	throws ParseException
+	{
+		return parseEpochMillis(new AsciiCharSequence(buffer, index, length), 0, length);
+	}
+
+	/**
+	 * Parses each of the strings into UTC epoch milliseconds without throwing for the ones that fail.
+	 * 
+	 * @see #parseAll(List, long[])
+	 */
+	public BitSet parseAll(CharSequence[] in, long[] outEpochMillis)
+	{
+		return parseAll(Arrays.asList(in), outEpochMillis);
+	}
+
+	/**
+	 * Parses each of the strings into UTC epoch milliseconds without throwing for the ones that fail.
+	 * When no parse callbacks are registered, the whole batch goes to DateFormatProcessor.parseAll(),
+	 * which remembers the winning format across rows; otherwise each row is the same as
+	 * parse(in.get(i).toString()).getTime().
+	 * 
+	 * @param in the date strings, one per row.
+	 * @param outEpochMillis receives the epoch milliseconds of row i at index i.  Failed rows are left
+	 * unchanged.
+	 * @return the rows that failed to parse (including null rows), which is empty if every row parsed.
+	 * @throws IllegalArgumentException if outEpochMillis is shorter than in.
+	 * @see DateFormatProcessor#parseAll(List, long[])
+	 */
+	public BitSet parseAll(List<? extends CharSequence> in, long[] outEpochMillis)
+	{
+		if (preParseCallback == null && postParseCallback == null)
+		{
+			return processor.parseAll(in, outEpochMillis);
+		}
+
+		Batches.checkLength(outEpochMillis.length, in.size());
+		BitSet failures = parseRange(in, 0, in.size(), outEpochMillis);
+		return (failures == null ? new BitSet() : failures);
+	}
+
+	/**
+	 * Parses each of the strings into UTC epoch milliseconds, splitting large batches into chunks that
+	 * are parsed on the executor.  Any callbacks are called from the executor's threads, so they must be
+	 * thread-safe.
+	 * 
+	 * @see DateFormatProcessor#parseAll(List, long[], Executor)
+	 */
+	public BitSet parseAll(List<? extends CharSequence> in, long[] outEpochMillis, Executor executor)
+	{
+		if (preParseCallback == null && postParseCallback == null)
+		{
+			return processor.parseAll(in, outEpochMillis, executor);
+		}
+
+		Batches.checkLength(outEpochMillis.length, in.size());
+		return Batches.run(in.size(), executor, (from, to) -> parseRange(in, from, to, outEpochMillis));
+	}
+
+	/**
+	 * Formats each of the UTC epoch milliseconds, as formatEpochMillis() would, into the same index of out.
+	 * 
+	 * @throws IllegalArgumentException if out is shorter than epochMillis.
+	 */
+	public void formatAll(long[] epochMillis, String[] out)
+	{
+		Batches.checkLength(out.length, epochMillis.length);
+		formatRange(epochMillis, 0, epochMillis.length, out);
+	}
+
+	/**
+	 * Formats each of the UTC epoch milliseconds into the same index of out, splitting large batches into
+	 * chunks that are formatted on the executor.  Any callbacks are called from the executor's threads,
+	 * so they must be thread-safe.
+	 * 
+	 * @see DateFormatProcessor#formatAll(long[], String[], Executor)
+	 */
+	public void formatAll(long[] epochMillis, String[] out, Executor executor)
+	{
+		Batches.checkLength(out.length, epochMillis.length);
+		Batches.run(epochMillis.length, executor, (from, to) -> formatRange(epochMillis, from, to, out));
+	}
+
+	/**
+	 * Formats UTC epoch milliseconds.  When no format callbacks are registered, no java.util.Date is
+	 * created (given a processor with a hand-written formatter); otherwise this is the same as
+	 * format(new Date(epochMillis)).
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 */
+	public String formatEpochMillis(long epochMillis)
+	{
+		if (!hasFormatCallbacks())
+		{
+			return processor.formatEpochMillis(epochMillis);
+		}
+
+		return format(new Date(epochMillis));
+	}
+
+	/**
+	 * Appends the formatted date to out.  When no format callbacks are registered and the output format
+	 * has a hand-written formatter (as for TimestampAdapter, Iso8601TimepointAdapter and
+	 * HttpHeaderTimestampAdapter), no String is created.
+	 * 
+	 * @param date a java.util.Date
+	 * @param out where to append the characters (e.g. a StringBuilder or Writer).
+	 * @return out
+	 * @throws IOException if the Appendable does.
+	 */
+	public <A extends Appendable> A formatTo(Date date, A out)
+	throws IOException
+	{
+		if (hasFormatCallbacks())
+		{
+			out.append(format(date));
+			return out;
+		}
+
+		return processor.formatTo(date, out);
+	}
+
+	/**
+	 * Appends the formatted UTC epoch milliseconds to out.
+	 * 
+	 * @see #formatTo(Date, Appendable)
+	 */
+	public <A extends Appendable> A formatTo(long epochMillis, A out)
+	throws IOException
+	{
+		if (hasFormatCallbacks())
+		{
+			out.append(formatEpochMillis(epochMillis));
+			return out;
+		}
+
+		return processor.formatTo(epochMillis, out);
+	}
+
+	/**
+	 * Writes the formatted UTC epoch milliseconds, as US-ASCII, into the array at the given offset.
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 * @param bytes the destination, with room for the output.
+	 * @param offset index of the first byte to write.
+	 * @return the offset after the last byte written.
+	 * @see DateFormatProcessor#formatTo(long, byte[], int)
+	 */
+	public int formatTo(long epochMillis, byte[] bytes, int offset)
+	{
+		if (hasFormatCallbacks())
+		{
+			return AsciiDateFormatter.writeAscii(formatEpochMillis(epochMillis), bytes, offset);
+		}
+
+		return processor.formatTo(epochMillis, bytes, offset);
+	}
+
+	/**
+	 * Writes the formatted UTC epoch milliseconds, as US-ASCII, into a heap or direct buffer at the given
+	 * absolute index.  The buffer's position is left unchanged.
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 * @param buffer the destination, with room for the output.
+	 * @param index the absolute index of the first byte to write.
+	 * @return the index after the last byte written.
+	 * @see DateFormatProcessor#formatTo(long, ByteBuffer, int)
+	 */
+	public int formatTo(long epochMillis, ByteBuffer buffer, int index)
+	{
+		if (hasFormatCallbacks())
+		{
+			return AsciiDateFormatter.writeAscii(formatEpochMillis(epochMillis), buffer, index);
+		}
+
+		return processor.formatTo(epochMillis, buffer, index);
+	}
+
+	/**
+	 * Parses rows from (inclusive) to to (exclusive) of a batch one at a time, with the callbacks.
+	 * 
+	 * The rows are read with a ListIterator, so a LinkedList is read in linear time too.
+	 * 
+	 * @return the rows that failed, numbered from from, or null if none did.
+	 */
+	private BitSet parseRange(List<? extends CharSequence> in, int from, int to, long[] outEpochMillis)
+	{
+		BitSet failures = null;
+
+		ListIterator<? extends CharSequence> rows = in.listIterator(from);
+
+		for (int i = from; i < to; ++i)
+		{
+			CharSequence text = rows.next();
+
+			try
+			{
+				if (text != null)
+				{
+					outEpochMillis[i] = parse(text.toString()).getTime();
+					continue;
+				}
+			}
+			catch (ParseException e)
+			{
+				// marked as failed below.
+			}
+
+			if (failures == null)
+			{
+				failures = new BitSet();
+			}
+
+			failures.set(i - from);
+		}
+
+		return failures;
+	}
+
+	private BitSet formatRange(long[] epochMillis, int from, int to, String[] out)
+	{
+		for (int i = from; i < to; ++i)
+		{
+			out[i] = formatEpochMillis(epochMillis[i]);
+		}
+
+		return null;
+	}
+
+	private boolean hasFormatCallbacks()
+	{
+		return (preFormatCallback != null || postFormatCallback != null);
+	}
+
+	protected boolean hasPreParseCallback()
+	{
+		return (preParseCallback != null);
+	}
 	
 	
 	// SECTION: PRE-PROCESSING
@@ -66,6 +66,19 @@ public final class DateAdapterConstants
 	};
 	
 	
+	// SECTION: Time of day-related constants (used by LocalTimeAdapter).
+
+	public static final String TIME_OUTPUT_FORMAT = "HH:mm:ss.SSS";
+	public static final String[] TIME_INPUT_FORMATS =
+	{
+		TIME_OUTPUT_FORMAT,
+		"HH:mm:ss",
+		"HHmmss",
+		"HH:mm",
+		"HHmm"
+	};
+	
+	
 	// SECTION: RFC 1123 related constants (used for dates/timestamps in HTTP headers)
 	
 	public static final String RFC1123_OUTPUT_FORMAT = "EEE, dd MMM yyyy HH:mm:ss 'GMT'";  //e.g. Sun, 06 Nov 1994 08:49:37 GMT  ; RFC 822, updated by RFC 1123
@@ -16,13 +16,22 @@
  */
 
 package com.strategicgains.util.date;
-import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.strategicgains.util.TextAdapter;
 /**
@@ -33,14 +42,41 @@ import com.strategicgains.util.TextAdapter;
  * The output format is the date format always used for output.  It is good form to have the first
  * input format match the output format.
  * 
+ * <p>DateFormat is not thread safe, so each thread using a processor works on its own copies of the
+ * input and output formats.  The copies are cloned the first time a thread uses the processor and
+ * reused for every call thereafter, so a single processor may be shared freely between threads.
+ * 
+ * <p>When the output format is one of the standard patterns in DateAdapterConstants, output is written
+ * by a hand-written {@link AsciiDateFormatter} instead, which can also write straight into an Appendable,
+ * byte[] or ByteBuffer without creating a String.  Other numeric patterns given as Strings are compiled
+ * into a {@link CompiledDateFormat}, which formats them the same way and parses the text they produce
+ * without SimpleDateFormat.  SimpleDateFormat is kept for everything else (text fields, lenient input
+ * and years outside EpochDays.MIN_YEAR to EpochDays.MAX_YEAR).
+ * 
  * @author Todd Fredrich
  * @since Nov 13, 2009
  */
 public class DateFormatProcessor
 implements TextAdapter<Date>
 {
+	/**
+	 * Returned by tryParse() when the text is left to the input formats.
+	 */
+	protected static final long NOT_PARSED = Long.MIN_VALUE;
+
+	/**
+	 * The most sample shapes parseAll() remembers the winning format for in one batch.
+	 */
+	private static final int MAX_LEARNED_SHAPES = 256;
+
 	private DateFormat[] inputFormats;
 	private DateFormat outputFormat;
+	private AsciiDateFormatter outputFormatter;
+	private FormatDispatcher dispatcher;
+	private CompiledDateFormat[] compiledInputs;
+	private volatile AdaptiveFormatSelector selector;
+	private ThreadLocal<DateFormat[]> localInputFormats = ThreadLocal.withInitial(this::cloneInputFormats);
+	private ThreadLocal<DateFormat> localOutputFormat = ThreadLocal.withInitial(this::cloneOutputFormat);
 	
 	public DateFormatProcessor(String outputFormat, List<String> inputFormats)
 	{
@@ -59,14 +95,29 @@ implements TextAdapter<Date>
 	 */
 	public DateFormatProcessor(String outputFormat, String... inputFormats)
 	{
-		this.outputFormat = new SimpleDateFormat(outputFormat);
-		this.outputFormat.setTimeZone(UNIVERSAL_TIME_ZONE);
-		this.inputFormats = new SimpleDateFormat[inputFormats.length];
-		
-		for (int i = 0; i < this.inputFormats.length; ++i)
+		this(outputFormat, Locale.getDefault(Locale.Category.FORMAT), inputFormats);
+	}
+
+	/**
+	 * Like DateFormatProcessor(String, String...), but always writes output in outputLocale, whatever the
+	 * default locale (e.g. Locale.US for HTTP-dates, whose day and month names are English by definition).
+	 * Input is still parsed in the default locale.
+	 *
+	 * @param outputFormat SimpleDateFormat string representing the output date format.
+	 * @param outputLocale the locale of the output format's day and month names and digits.
+	 * @param inputFormats Array of SimpleDateFormat strings representing date formats accepted as input.
+	 */
+	public DateFormatProcessor(String outputFormat, Locale outputLocale, String... inputFormats)
+	{
+		CompiledPatterns patterns = CompiledPatterns.of(outputFormat, outputLocale, inputFormats);
+		this.outputFormat = patterns.getOutputFormat();
+		this.inputFormats = patterns.getInputFormats();
+		this.outputFormatter = patterns.getOutputFormatter();
+		this.dispatcher = patterns.getDispatcher();
+
+		if (isRawTextParsed())
 		{
-			this.inputFormats[i] = new SimpleDateFormat(inputFormats[i]);
-			this.inputFormats[i].setTimeZone(UNIVERSAL_TIME_ZONE);
+			this.compiledInputs = patterns.getCompiledInputs();
 		}
 	}
 	
@@ -86,56 +137,706 @@ implements TextAdapter<Date>
 		{
 			this.inputFormats[i] = (DateFormat) inputFormats[i].clone();	
 		}
+
+		this.dispatcher = FormatDispatcher.compile(this.inputFormats);
 	}
 	
 	/**
 	 * Attempts to parse the given string into a java.util.Date using the provided
 	 * input formats.
 	 * 
+	 * <p>Each format is tried, in priority order, with a ParsePosition instead of letting it throw.  A
+	 * single ParseException is created only when every format fails.  Its error offset (and message)
+	 * describe the format that got furthest into the string before failing.
+	 * 
+	 * <p>For numeric SimpleDateFormat patterns, the format the ordered scan would pick is usually known
+	 * from the shape of the string alone (its length and where the digits, separators, 'T' and zone
+	 * suffix are), so that format is tried first (see FormatDispatcher).
+	 * 
 	 * @param dateString a date string in one of the acceptable formats.
 	 * @throws ParseException if the date is not in one of the input formats.
 	 */
 	public Date parse(String dateString)
 	throws ParseException
 	{
-		Date result = null;
-		ParseException lastException = null;
-		
-		for (DateFormat format : inputFormats)
+		return parse(dateString, 0, dateString.length());
+	}
+
+	/**
+	 * Parses the date occupying length characters of src, starting at offset, so a date can be parsed in
+	 * place inside a larger buffer (e.g. a StringBuilder, CharBuffer or line of CSV).  The result is the
+	 * same as parse(src.subSequence(offset, offset + length).toString()), and any error offset is relative
+	 * to offset.  Processors with a hand-written parser read the characters in place; the SimpleDateFormat
+	 * fallback needs a String and copies them.
+	 * 
+	 * @param src the characters containing the date.
+	 * @param offset index of the first character of the date.
+	 * @param length the number of characters in the date.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 */
+	public Date parse(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		checkRange(src, offset, length);
+		long millis = parseFast(src, offset, offset + length);
+
+		if (millis != NOT_PARSED)
+		{
+			return new Date(millis);
+		}
+
+		return parseFormats(beforeFallback(substring(src, offset, length)));
+	}
+
+	/**
+	 * Formats the given java.util.Date into a string using the output format provided in the
+	 * constructor.
+	 * 
+	 * @param date a java.util.Date
+	 */
+	public String format(Date date)
+	{
+		if (isFast(date.getTime()))
 		{
-			try
+			return outputFormatter.format(date.getTime());
+		}
+
+		return localOutputFormat.get().format(date);
+	}
+
+	/**
+	 * Parses the given text into UTC epoch milliseconds.  The result is the same as parse(text.toString()).getTime(),
+	 * but processors with a hand-written parser never create a java.util.Date.
+	 * 
+	 * @param text a date string in one of the acceptable formats.
+	 * @return the epoch milliseconds.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 */
+	public long parseEpochMillis(CharSequence text)
+	throws ParseException
+	{
+		return parseEpochMillis(text, 0, text.length());
+	}
+
+	/**
+	 * Parses the date occupying length characters of src, starting at offset, into UTC epoch milliseconds.
+	 * 
+	 * @param src the characters containing the date.
+	 * @param offset index of the first character of the date.
+	 * @param length the number of characters in the date.
+	 * @return the epoch milliseconds.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 * @see #parse(CharSequence, int, int)
+	 */
+	public long parseEpochMillis(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		checkRange(src, offset, length);
+		long millis = parseFast(src, offset, offset + length);
+
+		if (millis != NOT_PARSED)
+		{
+			return millis;
+		}
+
+		return parseFormats(beforeFallback(substring(src, offset, length))).getTime();
+	}
+
+	/**
+	 * Formats the given UTC epoch milliseconds using the output format.  The result is the same as
+	 * format(new Date(epochMillis)), but with a hand-written formatter no java.util.Date is created.
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 */
+	public String formatEpochMillis(long epochMillis)
+	{
+		if (isFast(epochMillis))
+		{
+			return outputFormatter.format(epochMillis);
+		}
+
+		return localOutputFormat.get().format(new Date(epochMillis));
+	}
+
+	/**
+	 * Appends the formatted date to out.  With a hand-written formatter the characters are appended one
+	 * at a time and no String is created.
+	 * 
+	 * @param date a java.util.Date
+	 * @param out where to append the characters (e.g. a StringBuilder or Writer).
+	 * @return out
+	 * @throws IOException if the Appendable does.
+	 */
+	public <A extends Appendable> A formatTo(Date date, A out)
+	throws IOException
+	{
+		return formatTo(date.getTime(), out);
+	}
+
+	/**
+	 * Appends the formatted UTC epoch milliseconds to out.
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 * @param out where to append the characters (e.g. a StringBuilder or Writer).
+	 * @return out
+	 * @throws IOException if the Appendable does.
+	 * @see #formatTo(Date, Appendable)
+	 */
+	public <A extends Appendable> A formatTo(long epochMillis, A out)
+	throws IOException
+	{
+		if (isFast(epochMillis))
+		{
+			outputFormatter.format(epochMillis, out);
+		}
+		else
+		{
+			out.append(formatEpochMillis(epochMillis));
+		}
+
+		return out;
+	}
+
+	/**
+	 * Writes the formatted UTC epoch milliseconds, as US-ASCII, into the array at the given offset.  The
+	 * caller must leave room for the output (e.g. 29 bytes for an HTTP-date).  Characters outside US-ASCII,
+	 * which only a localized SimpleDateFormat output format can produce, are written as '?'.
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 * @param bytes the destination.
+	 * @param offset index of the first byte to write.
+	 * @return the offset after the last byte written.
+	 */
+	public int formatTo(long epochMillis, byte[] bytes, int offset)
+	{
+		if (isFast(epochMillis))
+		{
+			return outputFormatter.format(epochMillis, bytes, offset);
+		}
+
+		return AsciiDateFormatter.writeAscii(formatEpochMillis(epochMillis), bytes, offset);
+	}
+
+	/**
+	 * Writes the formatted UTC epoch milliseconds, as US-ASCII, into a heap or direct buffer at the given
+	 * absolute index.  The buffer's position is left unchanged.
+	 * 
+	 * @param epochMillis milliseconds since 1970-01-01T00:00:00Z.
+	 * @param buffer the destination.
+	 * @param index the absolute index of the first byte to write.
+	 * @return the index after the last byte written.
+	 * @see #formatTo(long, byte[], int)
+	 */
+	public int formatTo(long epochMillis, ByteBuffer buffer, int index)
+	{
+		if (isFast(epochMillis))
+		{
+			return outputFormatter.format(epochMillis, buffer, index);
+		}
+
+		return AsciiDateFormatter.writeAscii(formatEpochMillis(epochMillis), buffer, index);
+	}
+
+
+	// SECTION: ADAPTIVE MODE
+
+	/**
+	 * Turns adaptive format selection on or off (it is off by default).  When on, strings that the
+	 * FormatDispatcher doesn't recognize, such as dates with day or month names or lenient forms, try
+	 * first the format that won for earlier strings of the same shape, and the formats that win most
+	 * often are tried first when a new shape is seen.  Results are always those of the strict priority
+	 * order (see AdaptiveFormatSelector).  Turning it on again starts learning afresh.
+	 * 
+	 * <p>Adaptive mode needs every input format to be a SimpleDateFormat; otherwise this does nothing.
+	 */
+	public void setAdaptive(boolean isAdaptive)
+	{
+		if (isAdaptive && isSimple(inputFormats))
+		{
+			selector = new AdaptiveFormatSelector(inputFormats.length);
+		}
+		else
+		{
+			selector = null;
+		}
+	}
+
+	public boolean isAdaptive()
+	{
+		return (selector != null);
+	}
+
+	/**
+	 * @return how many strings each input format has parsed, in priority order, since adaptive mode
+	 * was turned on (all zero when it is off).  Strings parsed by a hand-written parser aren't counted.
+	 */
+	public long[] getInputFormatWins()
+	{
+		AdaptiveFormatSelector adaptive = selector;
+		return (adaptive == null ? new long[inputFormats.length] : adaptive.getWins());
+	}
+
+
+	// SECTION: BATCHES
+
+	/**
+	 * Parses each of the strings into UTC epoch milliseconds, as parseEpochMillis() would, without
+	 * throwing for the ones that fail.
+	 * 
+	 * @param in the date strings, one per row.
+	 * @param outEpochMillis receives the epoch milliseconds of row i at index i.  Failed rows are left
+	 * unchanged.
+	 * @return the rows that failed to parse (including null rows), which is empty if every row parsed.
+	 * @throws IllegalArgumentException if outEpochMillis is shorter than in.
+	 * @see #parseAll(List, long[])
+	 */
+	public BitSet parseAll(CharSequence[] in, long[] outEpochMillis)
+	{
+		return parseAll(Arrays.asList(in), outEpochMillis);
+	}
+
+	/**
+	 * Parses each of the strings into UTC epoch milliseconds, as parseEpochMillis() would, without
+	 * throwing for the ones that fail.  Each row gives the same result it would on its own, but the
+	 * per-call overhead is paid once per batch: this thread's input formats and the ParsePosition are
+	 * looked up once, and failed rows are only marked, never turned into a ParseException.
+	 * 
+	 * <p>Rows that neither the hand-written parser nor the FormatDispatcher recognize (e.g. dates with
+	 * day or month names) are matched by their sample, the row with each digit replaced by '1'.  The
+	 * first row with a given sample finds the format that the ordered scan picks for that sample; every
+	 * later row with the same sample tries that format first, falling back to the ordered scan only if it
+	 * fails.
+	 * 
+	 * @param in the date strings, one per row.
+	 * @param outEpochMillis receives the epoch milliseconds of row i at index i.  Failed rows are left
+	 * unchanged.
+	 * @return the rows that failed to parse (including null rows), which is empty if every row parsed.
+	 * @throws IllegalArgumentException if outEpochMillis is shorter than in.
+	 */
+	public BitSet parseAll(List<? extends CharSequence> in, long[] outEpochMillis)
+	{
+		Batches.checkLength(outEpochMillis.length, in.size());
+		BitSet failures = parseRange(in, 0, in.size(), outEpochMillis);
+		return (failures == null ? new BitSet() : failures);
+	}
+
+	/**
+	 * Parses each of the strings into UTC epoch milliseconds, as parseAll(in, outEpochMillis) does, but
+	 * splits batches of more than a few thousand rows into chunks and parses them on the executor (e.g.
+	 * ForkJoinPool.commonPool() or a pool sized for the job).  A processor may be shared by any number
+	 * of worker threads: each clones the input formats once, the first time it parses, and keeps them.
+	 * This call waits until every chunk is done.
+	 * 
+	 * @param in the date strings, one per row.  The list must not change while it is being parsed.
+	 * @param outEpochMillis receives the epoch milliseconds of row i at index i.  Failed rows are left
+	 * unchanged.
+	 * @param executor runs the chunks.
+	 * @return the rows that failed to parse (including null rows), which is empty if every row parsed.
+	 * @throws IllegalArgumentException if outEpochMillis is shorter than in.
+	 */
+	public BitSet parseAll(List<? extends CharSequence> in, long[] outEpochMillis, Executor executor)
+	{
+		Batches.checkLength(outEpochMillis.length, in.size());
+		return Batches.run(in.size(), executor, (from, to) -> parseRange(in, from, to, outEpochMillis));
+	}
+
+	/**
+	 * Formats each of the UTC epoch milliseconds, as formatEpochMillis() would, into the same index of out.
+	 * 
+	 * @throws IllegalArgumentException if out is shorter than epochMillis.
+	 */
+	public void formatAll(long[] epochMillis, String[] out)
+	{
+		Batches.checkLength(out.length, epochMillis.length);
+		formatRange(epochMillis, 0, epochMillis.length, out);
+	}
+
+	/**
+	 * Formats each of the UTC epoch milliseconds into the same index of out, splitting batches of more
+	 * than a few thousand values into chunks that are formatted on the executor.  This call waits until
+	 * every chunk is done.
+	 * 
+	 * @throws IllegalArgumentException if out is shorter than epochMillis.
+	 * @see #parseAll(List, long[], Executor)
+	 */
+	public void formatAll(long[] epochMillis, String[] out, Executor executor)
+	{
+		Batches.checkLength(out.length, epochMillis.length);
+		Batches.run(epochMillis.length, executor, (from, to) -> formatRange(epochMillis, from, to, out));
+	}
+
+	/**
+	 * Parses rows from (inclusive) to to (exclusive) of a batch.
+	 * 
+	 * The rows are read with a ListIterator, so a LinkedList is read in linear time too.
+	 * 
+	 * @return the rows that failed, numbered from from, or null if none did.
+	 */
+	private BitSet parseRange(List<? extends CharSequence> in, int from, int to, long[] outEpochMillis)
+	{
+		BitSet failures = null;
+		DateFormat[] formats = null;
+		ParsePosition position = null;
+		Map<String, Integer> learned = null;
+
+		ListIterator<? extends CharSequence> rows = in.listIterator(from);
+
+		for (int i = from; i < to; ++i)
+		{
+			CharSequence text = rows.next();
+			long millis = (text == null ? NOT_PARSED : parseFast(text, 0, text.length()));
+
+			if (millis != NOT_PARSED)
+			{
+				outEpochMillis[i] = millis;
+				continue;
+			}
+
+			Date result = null;
+
+			if (text != null)
 			{
-				result = ((DateFormat) format.clone()).parse(dateString);	// DateFormat is not thread safe.
-				lastException = null;
-				break;
+				if (formats == null)
+				{
+					formats = localInputFormats.get();
+					position = new ParsePosition(0);
+					learned = new HashMap<>();
+				}
+
+				String dateString = beforeFallback(text.toString());
+				int candidate = (dispatcher == null ? -1 : dispatcher.lookup(dateString));
+
+				if (candidate < 0)
+				{
+					candidate = (selector == null ? learn(learned, formats, dateString) : selector.candidate(formats, dateString));
+				}
+
+				result = parseAny(dateString, formats, position, candidate);
 			}
-			catch (ParseException e)
+
+			if (result != null)
 			{
-				// Keep the first exception that occurred.
-				if (lastException == null)
+				outEpochMillis[i] = result.getTime();
+			}
+			else
+			{
+				if (failures == null)
 				{
-					lastException = e;
+					failures = new BitSet();
 				}
-				// And just try the next input format.
+
+				failures.set(i - from);
 			}
 		}
 
-		if (lastException != null)
+		return failures;
+	}
+
+	private BitSet formatRange(long[] epochMillis, int from, int to, String[] out)
+	{
+		for (int i = from; i < to; ++i)
 		{
-			throw lastException;
+			out[i] = formatEpochMillis(epochMillis[i]);
 		}
 
-		return result;
+		return null;
 	}
-	
+
+
+	// SECTION: EXTENSION POINTS
+
 	/**
-	 * Formats the given java.util.Date into a string using the output format provided in the
-	 * constructor.
+	 * Lets a subclass parse the characters from offset (inclusive) to end (exclusive) without the input
+	 * formats, e.g. with a hand-written parser.  It must only accept text that the input formats would
+	 * parse to the same instant.
 	 * 
-	 * @param date a java.util.Date
+	 * @return the epoch milliseconds, or NOT_PARSED to fall back to the input formats.
 	 */
-	public String format(Date date)
+	protected long tryParse(CharSequence src, int offset, int end)
+	{
+		return NOT_PARSED;
+	}
+
+	/**
+	 * Lets a subclass rewrite the text before it is handed to the input formats.
+	 */
+	protected String beforeFallback(String text)
+	{
+		return text;
+	}
+
+	/**
+	 * Answers whether the input formats see the text as given, which lets the String constructors compile
+	 * them into CompiledDateFormats that parse it directly.  A subclass whose beforeFallback() rewrites
+	 * the text must answer false.  This is called from the constructor, so it must not depend on the
+	 * subclass's fields.
+	 */
+	protected boolean isRawTextParsed()
+	{
+		return true;
+	}
+
+	/**
+	 * Answers whether the input formats, after beforeFallback(), parse text to epochMillis.  A subclass
+	 * checks a sample with this before using a hand-written parser: the input formats read the year in
+	 * the default locale's calendar (e.g. the Buddhist calendar under th-TH), the hand-written parser
+	 * always as Gregorian.
+	 */
+	protected boolean isParsedAs(String text, long epochMillis)
+	{
+		try
+		{
+			return parseFormats(beforeFallback(text)).getTime() == epochMillis;
+		}
+		catch (ParseException e)
+		{
+			return false;
+		}
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	/**
+	 * Tries the subclass's hand-written parser, then the compiled input format, if any, that the ordered
+	 * scan would pick for the text's shape.  That is the FormatDispatcher's candidate, or the only
+	 * candidate the order can't overrule: the first format.
+	 * 
+	 * @return the epoch milliseconds, or NOT_PARSED.
+	 */
+	private long parseFast(CharSequence src, int offset, int end)
+	{
+		long millis = tryParse(src, offset, end);
+
+		if (millis != NOT_PARSED || compiledInputs == null)
+		{
+			return millis;
+		}
+
+		int candidate = (dispatcher == null ? 0 : dispatcher.lookup(src, offset, end));
+
+		if (candidate < 0 || compiledInputs[candidate] == null)
+		{
+			return NOT_PARSED;
+		}
+
+		millis = compiledInputs[candidate].tryParse(src, offset, end);
+		return (millis == CompiledDateFormat.INVALID ? NOT_PARSED : millis);
+	}
+
+	private boolean isFast(long epochMillis)
+	{
+		return outputFormatter != null && outputFormatter.isSupported(epochMillis);
+	}
+
+	/**
+	 * Tries the format picked by the dispatcher, if any, then each input format in priority order.
+	 */
+	private Date parseFormats(String dateString)
+	throws ParseException
+	{
+		DateFormat[] formats = localInputFormats.get();
+		ParsePosition position = new ParsePosition(0);
+		AdaptiveFormatSelector adaptive = selector;
+		int candidate = (dispatcher == null ? -1 : dispatcher.lookup(dateString));
+
+		if (candidate < 0 && adaptive != null)
+		{
+			candidate = adaptive.candidate(formats, dateString);
+		}
+
+		if (candidate >= 0)
+		{
+			Date result = formats[candidate].parse(dateString, position);
+
+			if (position.getIndex() != 0)
+			{
+				won(adaptive, candidate);
+				return result;
+			}
+		}
+
+		int furthestIndex = -1;
+		int furthestFormat = -1;
+
+		for (int i = 0; i < formats.length; ++i)
+		{
+			position.setIndex(0);
+			position.setErrorIndex(-1);
+			Date result = formats[i].parse(dateString, position);
+
+			if (position.getIndex() != 0)
+			{
+				won(adaptive, i);
+				return result;
+			}
+
+			// Remember the format that got furthest and just try the next input format.
+			if (position.getErrorIndex() > furthestIndex)
+			{
+				furthestIndex = position.getErrorIndex();
+				furthestFormat = i;
+			}
+		}
+
+		throw newParseException(dateString, furthestFormat, furthestIndex);
+	}
+
+	/**
+	 * Looks up the format the ordered scan picks for the date's sample, finding and remembering it the
+	 * first time the sample is seen.
+	 *
+	 * @return the format index, or -1 if no format accepts the sample.
+	 */
+	private static int learn(Map<String, Integer> learned, DateFormat[] formats, String dateString)
+	{
+		String sample = FormatDispatcher.sample(dateString);
+		Integer known = learned.get(sample);
+
+		if (known != null)
+		{
+			return known;
+		}
+
+		int candidate = FormatDispatcher.firstAccepting(formats, sample);
+
+		if (learned.size() < MAX_LEARNED_SHAPES)
+		{
+			learned.put(sample, candidate);
+		}
+
+		return candidate;
+	}
+
+	/**
+	 * Like parseFormats(), but answers null instead of describing the failure.
+	 */
+	private Date parseAny(String dateString, DateFormat[] formats, ParsePosition position, int candidate)
+	{
+		AdaptiveFormatSelector adaptive = selector;
+
+		if (candidate >= 0)
+		{
+			Date result = parseWith(formats[candidate], dateString, position);
+
+			if (result != null)
+			{
+				won(adaptive, candidate);
+				return result;
+			}
+		}
+
+		for (int i = 0; i < formats.length; ++i)
+		{
+			Date result = parseWith(formats[i], dateString, position);
+
+			if (result != null)
+			{
+				won(adaptive, i);
+				return result;
+			}
+		}
+
+		return null;
+	}
+
+	private static void won(AdaptiveFormatSelector adaptive, int index)
+	{
+		if (adaptive != null)
+		{
+			adaptive.won(index);
+		}
+	}
+
+	private static Date parseWith(DateFormat format, String dateString, ParsePosition position)
+	{
+		position.setIndex(0);
+		position.setErrorIndex(-1);
+		Date result = format.parse(dateString, position);
+		return (position.getIndex() != 0 ? result : null);
+	}
+
+	private static boolean isSimple(DateFormat[] formats)
+	{
+		for (DateFormat format : formats)
+		{
+			if (!(format instanceof SimpleDateFormat))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static void checkRange(CharSequence src, int offset, int length)
+	{
+		if (offset < 0 || length < 0 || offset > src.length() - length)
+		{
+			throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", source length " + src.length());
+		}
+	}
+
+	private static String substring(CharSequence src, int offset, int length)
+	{
+		if (offset == 0 && length == src.length() && src instanceof String)
+		{
+			return (String) src;
+		}
+
+		return src.subSequence(offset, offset + length).toString();
+	}
+
+	/**
+	 * Creates the exception thrown when none of the input formats match, reporting the format that
+	 * got furthest into the string (if any).
+	 */
+	private ParseException newParseException(String dateString, int furthestFormat, int furthestIndex)
+	{
+		StringBuilder message = new StringBuilder("Unparseable date: \"").append(dateString).append('"');
+
+		if (furthestFormat >= 0)
+		{
+			message.append(" (furthest match: ")
+				.append(describe(inputFormats[furthestFormat]))
+				.append(" failed at offset ")
+				.append(furthestIndex)
+				.append(')');
+		}
+
+		return new ParseException(message.toString(), Math.max(furthestIndex, 0));
+	}
+
+	private static String describe(DateFormat format)
+	{
+		if (format instanceof SimpleDateFormat)
+		{
+			return ((SimpleDateFormat) format).toPattern();
+		}
+
+		return format.getClass().getSimpleName();
+	}
+
+	/**
+	 * Creates this thread's private copies of the input formats.
+	 */
+	private DateFormat[] cloneInputFormats()
+	{
+		DateFormat[] formats = new DateFormat[inputFormats.length];
+
+		for (int i = 0; i < formats.length; ++i)
+		{
+			formats[i] = (DateFormat) inputFormats[i].clone();
+		}
+
+		return formats;
+	}
+
+	/**
+	 * Creates this thread's private copy of the output format.
+	 */
+	private DateFormat cloneOutputFormat()
 	{
-		return ((DateFormat) outputFormat.clone()).format(date);		// DateFormat is not thread safe.
+		return (DateFormat) outputFormat.clone();
 	}
 }
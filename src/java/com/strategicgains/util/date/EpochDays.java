@@ -0,0 +1,154 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+/**
+ * Proleptic Gregorian calendar arithmetic on UTC epoch days, used by the hand-written parsers and
+ * formatters to go between calendar fields and epoch milliseconds without a Calendar instance.
+ * <p>
+ * java.util.GregorianCalendar (and therefore SimpleDateFormat) switches to the Julian calendar before
+ * October 15, 1582.  The fast paths only handle years from MIN_YEAR to MAX_YEAR, where both calendars
+ * agree, and leave everything else to SimpleDateFormat.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class EpochDays
+{
+	public static final int MIN_YEAR = 1583;
+	public static final int MAX_YEAR = 9999;
+	public static final long MILLIS_PER_SECOND = 1000L;
+	public static final long MILLIS_PER_MINUTE = 60L * MILLIS_PER_SECOND;
+	public static final long MILLIS_PER_HOUR = 60L * MILLIS_PER_MINUTE;
+	public static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+
+	private static final int DAYS_0000_TO_1970 = 719468;
+	private static final long MIN_EPOCH_MILLIS = fromCivil(MIN_YEAR, 1, 1) * MILLIS_PER_DAY;
+	private static final long MAX_EPOCH_MILLIS = fromCivil(MAX_YEAR + 1, 1, 1) * MILLIS_PER_DAY;
+
+
+	// SECTION: CONSTRUCTOR - PRIVATE
+
+	private EpochDays()
+	{
+		// prevents instantiation.
+	}
+
+
+	// SECTION: CALENDAR FIELDS
+
+	public static boolean isLeapYear(int year)
+	{
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	public static int daysInMonth(int year, int month)
+	{
+		switch (month)
+		{
+			case 2:
+				return (isLeapYear(year) ? 29 : 28);
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	/**
+	 * Answers whether the given fields form a valid calendar date within the supported year range.
+	 *
+	 * @param year the four-digit year.
+	 * @param month the month, 1 to 12.
+	 * @param day the day of the month, starting at 1.
+	 */
+	public static boolean isValid(int year, int month, int day)
+	{
+		return year >= MIN_YEAR && year <= MAX_YEAR
+			&& month >= 1 && month <= 12
+			&& day >= 1 && day <= daysInMonth(year, month);
+	}
+
+	/**
+	 * Converts a (valid) calendar date to the number of days since 1970-01-01.
+	 *
+	 * @param year the year (non-negative).
+	 * @param month the month, 1 to 12.
+	 * @param day the day of the month, starting at 1.
+	 * @return the epoch day.
+	 */
+	public static long fromCivil(int year, int month, int day)
+	{
+		int y = (month <= 2 ? year - 1 : year);
+		int era = y / 400;
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097L + dayOfEra - DAYS_0000_TO_1970;
+	}
+
+	/**
+	 * Converts an epoch day to its calendar date, packed into a single int as year * 10000 + month * 100
+	 * + day (e.g. 19941106 for November 6, 1994).
+	 *
+	 * @param epochDay the number of days since 1970-01-01 (for a non-negative year).
+	 * @return the packed calendar date.
+	 */
+	public static int toCivil(long epochDay)
+	{
+		long z = epochDay + DAYS_0000_TO_1970;
+		long era = z / 146097;
+		int dayOfEra = (int) (z - era * 146097);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int mp = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		int month = (mp < 10 ? mp + 3 : mp - 9);
+		int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+		return year * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * @return the day of the week for the epoch day, from 0 (Sunday) to 6 (Saturday).
+	 */
+	public static int dayOfWeek(long epochDay)
+	{
+		return (int) Math.floorMod(epochDay + 4, 7L);
+	}
+
+	/**
+	 * Answers whether the epoch milliseconds fall within MIN_YEAR to MAX_YEAR (UTC).
+	 */
+	public static boolean isSupported(long epochMillis)
+	{
+		return epochMillis >= MIN_EPOCH_MILLIS && epochMillis < MAX_EPOCH_MILLIS;
+	}
+
+	/**
+	 * Converts calendar date and time-of-day fields to UTC epoch milliseconds.
+	 */
+	public static long toEpochMillis(int year, int month, int day, int hour, int minute, int second, int millis)
+	{
+		return fromCivil(year, month, day) * MILLIS_PER_DAY
+			+ hour * MILLIS_PER_HOUR
+			+ minute * MILLIS_PER_MINUTE
+			+ second * MILLIS_PER_SECOND
+			+ millis;
+	}
+}
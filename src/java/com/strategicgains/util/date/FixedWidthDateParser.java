@@ -0,0 +1,369 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.util.Arrays;
+
+/**
+ * The parser a CompiledDateFormat specializes itself into when every field of its pattern has a fixed
+ * width, as in yyyyMMdd, yyyy-MM-dd'T'HH:mm:ss.SSS'Z' or yyyy-MM-dd'T'HH:mm:ssXXX.  The step program is
+ * resolved once into the offset of each field and of each literal, so parsing is a length check, a
+ * literal comparison loop and a straight-line read of each field at its constant offset, with the
+ * digit reads unrolled by width, and four- and eight-digit groups read at once by {@link SwarDigits}.
+ * No step kinds are dispatched and no widths are scanned.
+ * <p>
+ * An ISO 8601 zone (X, XX or XXX) may end the pattern: it is the one variable-width field allowed, since
+ * the text then has one of two lengths ('Z' or the numeric offset).
+ * <p>
+ * Accepts exactly what the interpreted CompiledDateFormat accepts for the same pattern and gives the
+ * same result.  Instances are immutable and may be shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class FixedWidthDateParser
+{
+	private static final int ABSENT = -1;
+
+	private int length;
+	private char[] literals;
+	private int[] literalAt;
+	private int yearAt = ABSENT;
+	private int monthAt = ABSENT;
+	private int monthWidth;
+	private int dayAt = ABSENT;
+	private int dayWidth;
+	private int hourAt = ABSENT;
+	private int hourWidth;
+	private int minuteAt = ABSENT;
+	private int minuteWidth;
+	private int secondAt = ABSENT;
+	private int secondWidth;
+	private int millisAt = ABSENT;
+	private int millisWidth;
+	private int rfc822ZoneAt = ABSENT;
+	private int isoZoneAt = ABSENT;
+	private int isoZoneWidth;
+	private boolean isDateRun;
+
+	private FixedWidthDateParser()
+	{
+		// created by specialize().
+	}
+
+	/**
+	 * Resolves a compiled step program into field offsets.
+	 *
+	 * @param kinds the step kinds, as CompiledDateFormat numbers them.
+	 * @param minWidths the minimum width of each step (the literal char for literals, the count of X for ISO zones).
+	 * @param maxWidths the maximum width of each step.
+	 * @return the specialized parser, or null if a field has a variable width or appears twice.
+	 */
+	static FixedWidthDateParser specialize(byte[] kinds, int[] minWidths, int[] maxWidths)
+	{
+		FixedWidthDateParser parser = new FixedWidthDateParser();
+		StringBuilder literals = new StringBuilder();
+		int[] literalAt = new int[kinds.length];
+		int seen = 0;
+		int at = 0;
+
+		for (int step = 0; step < kinds.length; ++step)
+		{
+			int width = (kinds[step] == CompiledDateFormat.LITERAL ? 1 : maxWidths[step]);
+
+			if (kinds[step] == CompiledDateFormat.ISO_ZONE)
+			{
+				if (step != kinds.length - 1)
+				{
+					return null;
+				}
+
+				parser.isoZoneAt = at;
+				parser.isoZoneWidth = (minWidths[step] == 1 ? 3 : (minWidths[step] == 2 ? 5 : 6));
+				break;
+			}
+
+			if (kinds[step] != CompiledDateFormat.LITERAL)
+			{
+				// Only the last of a repeated field would be read, leaving the others unchecked.
+				if (width != minWidths[step] || (seen & (1 << kinds[step])) != 0)
+				{
+					return null;
+				}
+
+				seen |= 1 << kinds[step];
+			}
+
+			switch (kinds[step])
+			{
+				case CompiledDateFormat.LITERAL:
+					literalAt[literals.length()] = at;
+					literals.append((char) minWidths[step]);
+					break;
+				case CompiledDateFormat.YEAR:
+					parser.yearAt = at;
+					break;
+				case CompiledDateFormat.MONTH:
+					parser.monthAt = at;
+					parser.monthWidth = width;
+					break;
+				case CompiledDateFormat.DAY:
+					parser.dayAt = at;
+					parser.dayWidth = width;
+					break;
+				case CompiledDateFormat.HOUR:
+					parser.hourAt = at;
+					parser.hourWidth = width;
+					break;
+				case CompiledDateFormat.MINUTE:
+					parser.minuteAt = at;
+					parser.minuteWidth = width;
+					break;
+				case CompiledDateFormat.SECOND:
+					parser.secondAt = at;
+					parser.secondWidth = width;
+					break;
+				case CompiledDateFormat.MILLIS:
+					parser.millisAt = at;
+					parser.millisWidth = width;
+					break;
+				default:
+					parser.rfc822ZoneAt = at;
+					break;
+			}
+
+			at += width;
+		}
+
+		parser.isDateRun = parser.yearAt != ABSENT
+			&& parser.monthAt == parser.yearAt + 4 && parser.monthWidth == 2
+			&& parser.dayAt == parser.monthAt + 2 && parser.dayWidth == 2;
+		parser.length = at;
+		parser.literals = literals.toString().toCharArray();
+		parser.literalAt = Arrays.copyOf(literalAt, parser.literals.length);
+		return parser;
+	}
+
+	/**
+	 * Parses the characters from offset (inclusive) to end (exclusive).
+	 *
+	 * @return the UTC epoch milliseconds, or CompiledDateFormat.INVALID if they don't match strictly.
+	 */
+	long tryParse(CharSequence text, int offset, int end)
+	{
+		int length = end - offset;
+		int offsetMinutes = 0;
+
+		if (isoZoneAt == ABSENT)
+		{
+			if (length != this.length)
+			{
+				return CompiledDateFormat.INVALID;
+			}
+		}
+		else if (length == isoZoneAt + 1)
+		{
+			if (text.charAt(offset + isoZoneAt) != 'Z')
+			{
+				return CompiledDateFormat.INVALID;
+			}
+		}
+		else if (length == isoZoneAt + isoZoneWidth)
+		{
+			offsetMinutes = zone(text, offset + isoZoneAt, isoZoneWidth);
+
+			if (offsetMinutes == Integer.MIN_VALUE)
+			{
+				return CompiledDateFormat.INVALID;
+			}
+		}
+		else
+		{
+			return CompiledDateFormat.INVALID;
+		}
+
+		for (int i = 0; i < literals.length; ++i)
+		{
+			if (text.charAt(offset + literalAt[i]) != literals[i])
+			{
+				return CompiledDateFormat.INVALID;
+			}
+		}
+
+		int year;
+		int month;
+		int day;
+		int hour;
+		int minute;
+
+		// Two-digit fields are read in pairs (e.g. MM and dd as MMdd) and yyyyMMdd as one group of eight.  A
+		// miss is -1, which leaves the low field of the group negative (-1 % 100 == -1) for the sign test.
+		if (isDateRun)
+		{
+			int date = SwarDigits.parse8(text, offset + yearAt);
+			year = date / 10000;
+			month = date / 100 % 100;
+			day = date % 100;
+		}
+		else
+		{
+			year = (yearAt == ABSENT ? 1970 : SwarDigits.parse4(text, offset + yearAt));
+
+			if (isPair(monthAt, monthWidth, dayAt, dayWidth))
+			{
+				int monthDay = SwarDigits.parsePairs(text, offset + monthAt, offset + dayAt);
+				month = monthDay / 100;
+				day = monthDay % 100;
+			}
+			else
+			{
+				month = (monthAt == ABSENT ? 1 : read(text, offset + monthAt, monthWidth));
+				day = (dayAt == ABSENT ? 1 : read(text, offset + dayAt, dayWidth));
+			}
+		}
+
+		if (isPair(hourAt, hourWidth, minuteAt, minuteWidth))
+		{
+			int hourMinute = SwarDigits.parsePairs(text, offset + hourAt, offset + minuteAt);
+			hour = hourMinute / 100;
+			minute = hourMinute % 100;
+		}
+		else
+		{
+			hour = (hourAt == ABSENT ? 0 : read(text, offset + hourAt, hourWidth));
+			minute = (minuteAt == ABSENT ? 0 : read(text, offset + minuteAt, minuteWidth));
+		}
+
+		int second = (secondAt == ABSENT ? 0 : read(text, offset + secondAt, secondWidth));
+		int millis = (millisAt == ABSENT ? 0 : read(text, offset + millisAt, millisWidth));
+
+		if (rfc822ZoneAt != ABSENT)
+		{
+			offsetMinutes = zone(text, offset + rfc822ZoneAt, 5);
+		}
+
+		// read() gives a negative value for a non-digit, so one sign test covers every field.
+		if ((year | month | day | hour | minute | second | millis) < 0
+			|| offsetMinutes == Integer.MIN_VALUE
+			|| year < EpochDays.MIN_YEAR || year > EpochDays.MAX_YEAR
+			|| !EpochDays.isValid(year, month, day)
+			|| hour > 23 || minute > 59 || second > 59 || millis > 999)
+		{
+			return CompiledDateFormat.INVALID;
+		}
+
+		return EpochDays.toEpochMillis(year, month, day, hour, minute, second, millis)
+			- offsetMinutes * EpochDays.MILLIS_PER_MINUTE;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	/**
+	 * Answers whether two fields are both present with two digits each, so they can be read as one group.
+	 */
+	private static boolean isPair(int firstAt, int firstWidth, int secondAt, int secondWidth)
+	{
+		return firstAt != ABSENT && secondAt != ABSENT && firstWidth == 2 && secondWidth == 2;
+	}
+
+	/**
+	 * Reads a numeric zone offset of the given width (+HH, +HHMM or +HH:MM) at i.
+	 *
+	 * @return the offset in minutes, or Integer.MIN_VALUE if it isn't one.
+	 */
+	private static int zone(CharSequence text, int i, int width)
+	{
+		char sign = text.charAt(i);
+		int hours = read(text, i + 1, 2);
+		int minutes = (width == 3 ? 0 : read(text, i + width - 2, 2));
+
+		if ((sign != '+' && sign != '-')
+			|| (width == 6 && text.charAt(i + 3) != ':')
+			|| hours < 0 || hours > 23 || minutes < 0 || minutes > 59)
+		{
+			return Integer.MIN_VALUE;
+		}
+
+		return (sign == '-' ? -(hours * 60 + minutes) : hours * 60 + minutes);
+	}
+
+	/**
+	 * @return the value of the width digits at i, or a negative value if they are not all digits.
+	 */
+	private static int read(CharSequence text, int i, int width)
+	{
+		switch (width)
+		{
+			case 1:
+				return digit(text.charAt(i));
+			case 2:
+				return read2(text, i);
+			case 3:
+				return read3(text, i);
+			case 4:
+				return SwarDigits.parse4(text, i);
+			default:
+				int value = 0;
+
+				for (int j = i; j < i + width; ++j)
+				{
+					int digit = digit(text.charAt(j));
+
+					if (digit < 0)
+					{
+						return -1;
+					}
+
+					value = value * 10 + digit;
+				}
+
+				return value;
+		}
+	}
+
+	private static int read2(CharSequence text, int i)
+	{
+		int d0 = digit(text.charAt(i));
+		int d1 = digit(text.charAt(i + 1));
+		return combine(d0 * 10 + d1, d0 | d1);
+	}
+
+	private static int read3(CharSequence text, int i)
+	{
+		int d0 = digit(text.charAt(i));
+		int d1 = digit(text.charAt(i + 1));
+		int d2 = digit(text.charAt(i + 2));
+		return combine(d0 * 100 + d1 * 10 + d2, d0 | d1 | d2);
+	}
+
+	/**
+	 * @return value, or -1 if any digit (or-ed into digits) was negative.
+	 */
+	private static int combine(int value, int digits)
+	{
+		return (digits < 0 ? -1 : value);
+	}
+
+	/**
+	 * @return the value of the digit, or -1 for any other char.
+	 */
+	private static int digit(char c)
+	{
+		int digit = c - '0';
+		return (digit >= 0 && digit <= 9 ? digit : -1);
+	}
+}
@@ -0,0 +1,449 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Picks the input format for a date string by its shape instead of trying each format in turn.  A shape
+ * is the string with every ASCII digit replaced by a single digit class and every other character kept
+ * as is, so "2010-04-07T11:52Z" and "1999-12-31T23:59Z" share the shape of yyyy-MM-dd'T'HH:mm'Z'.
+ * <p>
+ * When the dispatcher is compiled, each SimpleDateFormat pattern is expanded into the shapes its usual
+ * output takes (e.g. both signs of a numeric zone) and a sample of each shape, with every digit a '1', is
+ * run through all the input formats in priority order.  The shape is mapped to the first format that
+ * accepts the sample, which is exactly the format the sequential scan would pick: whether a numeric
+ * pattern accepts a string depends on where its digits and literals are, not on which digits they are.
+ * At parse time the shape is followed through a trie, one character at a time, so finding the candidate
+ * costs the same however many formats there are.
+ * <p>
+ * The dispatcher only names a candidate.  If the candidate fails on the actual text (e.g. a zone offset
+ * out of range), or the text has a shape no pattern produces, the caller falls back to the sequential scan,
+ * so results and error messages are unchanged.  Patterns with text fields (day and month names, AM/PM,
+ * zone names) produce no shapes, but still take part in choosing the candidate for the others.  A
+ * dispatcher is immutable once compiled and may be shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class FormatDispatcher
+{
+	private static final int MAX_SHAPES_PER_FORMAT = 64;
+	private static final char SAMPLE_DIGIT = '1';
+	private static final String NUMERIC_FIELDS = "yYudDFwWHkKhmsS";
+
+	private Node root = new Node();
+
+	private FormatDispatcher()
+	{
+		// created by compile().
+	}
+
+	/**
+	 * Compiles a dispatcher for the given input formats.
+	 *
+	 * @param formats the input formats, in priority order.
+	 * @return a dispatcher, or null if the formats can't be dispatched by shape (e.g. a format isn't a
+	 * SimpleDateFormat, or a pattern has a digit among its literals).
+	 */
+	static FormatDispatcher compile(DateFormat[] formats)
+	{
+		Set<String> samples = new LinkedHashSet<>();
+
+		for (DateFormat format : formats)
+		{
+			if (!(format instanceof SimpleDateFormat))
+			{
+				return null;
+			}
+
+			List<Object> tokens = tokenize(((SimpleDateFormat) format).toPattern());
+
+			if (tokens == null)
+			{
+				return null;
+			}
+
+			samples.addAll(samples(tokens));
+		}
+
+		FormatDispatcher dispatcher = new FormatDispatcher();
+		boolean isEmpty = true;
+
+		for (String sample : samples)
+		{
+			int target = firstAccepting(formats, sample);
+
+			if (target >= 0)
+			{
+				dispatcher.add(sample, target);
+				isEmpty = false;
+			}
+		}
+
+		return (isEmpty ? null : dispatcher);
+	}
+
+	/**
+	 * @return the index of the input format to try first for the text, or -1 if its shape is unknown.
+	 */
+	int lookup(CharSequence text)
+	{
+		return lookup(text, 0, text.length());
+	}
+
+	/**
+	 * @return the index of the input format to try first for the characters from offset (inclusive) to
+	 * end (exclusive), or -1 if their shape is unknown.
+	 */
+	int lookup(CharSequence text, int offset, int end)
+	{
+		Node node = root;
+
+		for (int i = offset; node != null && i < end; ++i)
+		{
+			node = node.next(text.charAt(i));
+		}
+
+		return (node == null ? -1 : node.target);
+	}
+
+
+	/**
+	 * Replaces every ASCII digit in the text with the sample digit, giving the sample compile() would use
+	 * for its shape.  Letters are kept, so the sample of a date with text fields (e.g. an HTTP-date) is
+	 * only shared by dates with the same names.
+	 */
+	static String sample(CharSequence text)
+	{
+		char[] sample = new char[text.length()];
+
+		for (int i = 0; i < sample.length; ++i)
+		{
+			char c = text.charAt(i);
+			sample[i] = (c >= '0' && c <= '9' ? SAMPLE_DIGIT : c);
+		}
+
+		return new String(sample);
+	}
+
+	/**
+	 * @return the index of the first of the formats, in priority order, that accepts the sample, or -1.
+	 */
+	static int firstAccepting(DateFormat[] formats, String sample)
+	{
+		ParsePosition position = new ParsePosition(0);
+
+		for (int i = 0; i < formats.length; ++i)
+		{
+			position.setIndex(0);
+			position.setErrorIndex(-1);
+			formats[i].parse(sample, position);
+
+			if (position.getIndex() != 0)
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+
+	// SECTION: COMPILATION - PRIVATE
+
+	private void add(String sample, int target)
+	{
+		Node node = root;
+
+		for (int i = 0; i < sample.length(); ++i)
+		{
+			node = node.add(sample.charAt(i));
+		}
+
+		node.target = target;
+	}
+
+	/**
+	 * Splits a SimpleDateFormat pattern into literal Strings and field tokens (the field letter repeated).
+	 *
+	 * @return the tokens, or null if a literal contains a digit (its shape would hide the value).
+	 */
+	private static List<Object> tokenize(String pattern)
+	{
+		List<Object> tokens = new ArrayList<>();
+		int i = 0;
+
+		while (i < pattern.length())
+		{
+			char c = pattern.charAt(i);
+			int end = i + 1;
+
+			if (c == '\'')
+			{
+				StringBuilder literal = new StringBuilder();
+
+				for (; end < pattern.length(); ++end)
+				{
+					if (pattern.charAt(end) != '\'')
+					{
+						literal.append(pattern.charAt(end));
+					}
+					else if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'')
+					{
+						literal.append('\'');
+						++end;
+					}
+					else
+					{
+						break;
+					}
+				}
+
+				tokens.add(end == i + 1 ? "'" : literal.toString());
+				++end;
+			}
+			else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))
+			{
+				while (end < pattern.length() && pattern.charAt(end) == c)
+				{
+					++end;
+				}
+
+				tokens.add(new Field(c, end - i));
+			}
+			else
+			{
+				tokens.add(String.valueOf(c));
+			}
+
+			if (tokens.get(tokens.size() - 1) instanceof String && hasDigit((String) tokens.get(tokens.size() - 1)))
+			{
+				return null;
+			}
+
+			i = end;
+		}
+
+		return tokens;
+	}
+
+	/**
+	 * Expands the tokens into samples of each shape the pattern usually produces, up to
+	 * MAX_SHAPES_PER_FORMAT.
+	 *
+	 * @return the samples, or none if the pattern has a text field.
+	 */
+	private static List<String> samples(List<Object> tokens)
+	{
+		List<String> samples = Collections.singletonList("");
+
+		for (int t = 0; t < tokens.size(); ++t)
+		{
+			Object token = tokens.get(t);
+			List<String> options;
+
+			if (token instanceof String)
+			{
+				options = Collections.singletonList((String) token);
+			}
+			else
+			{
+				options = ((Field) token).options(t + 1 < tokens.size() && isNumeric(tokens.get(t + 1)));
+
+				if (options.isEmpty())
+				{
+					return Collections.emptyList();
+				}
+			}
+
+			List<String> expanded = new ArrayList<>();
+
+			for (String sample : samples)
+			{
+				for (String option : options)
+				{
+					if (expanded.size() < MAX_SHAPES_PER_FORMAT)
+					{
+						expanded.add(sample + option);
+					}
+				}
+			}
+
+			samples = expanded;
+		}
+
+		return samples;
+	}
+
+	private static boolean isNumeric(Object token)
+	{
+		return (token instanceof Field && ((Field) token).isNumeric());
+	}
+
+	private static boolean hasDigit(String literal)
+	{
+		for (int i = 0; i < literal.length(); ++i)
+		{
+			if (literal.charAt(i) >= '0' && literal.charAt(i) <= '9')
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static String digits(int count)
+	{
+		char[] digits = new char[count];
+		Arrays.fill(digits, SAMPLE_DIGIT);
+		return new String(digits);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * A pattern field: the letter and how many times it is repeated.
+	 */
+	private static final class Field
+	{
+		private char letter;
+		private int count;
+
+		private Field(char letter, int count)
+		{
+			this.letter = letter;
+			this.count = count;
+		}
+
+		private boolean isNumeric()
+		{
+			return NUMERIC_FIELDS.indexOf(letter) >= 0 || ((letter == 'M' || letter == 'L') && count <= 2);
+		}
+
+		/**
+		 * @param isAbutting true if the next token is also a numeric field, so this one is read with a fixed width.
+		 * @return samples of the text the field usually matches, or none for a text field.
+		 */
+		private List<String> options(boolean isAbutting)
+		{
+			switch (letter)
+			{
+				case 'Z':
+					return list("+1111", "-1111");
+				case 'X':
+					if (count == 1)
+					{
+						return list("Z", "+11", "-11");
+					}
+
+					if (count == 2)
+					{
+						return list("Z", "+1111", "-1111");
+					}
+
+					return list("Z", "+11:11", "-11:11");
+				case 'y':
+				case 'Y':
+					return list(digits(isAbutting || count == 2 ? count : Math.max(count, 4)));
+				default:
+					break;
+			}
+
+			if (!isNumeric())
+			{
+				return Collections.emptyList();
+			}
+
+			if (isAbutting || count > 2 || letter == 'S')
+			{
+				return list(digits(count));
+			}
+
+			return (count == 2 ? list(digits(2), digits(1)) : list(digits(1), digits(2)));
+		}
+
+		private static List<String> list(String... options)
+		{
+			List<String> list = new ArrayList<>(options.length);
+			Collections.addAll(list, options);
+			return list;
+		}
+	}
+
+	/**
+	 * A trie node.  Digits share one transition; every other character has its own.
+	 */
+	private static final class Node
+	{
+		private Node digit;
+		private char[] chars = new char[0];
+		private Node[] children = new Node[0];
+		private int target = -1;
+
+		private Node next(char c)
+		{
+			if (c >= '0' && c <= '9')
+			{
+				return digit;
+			}
+
+			for (int i = 0; i < chars.length; ++i)
+			{
+				if (chars[i] == c)
+				{
+					return children[i];
+				}
+			}
+
+			return null;
+		}
+
+		private Node add(char c)
+		{
+			Node child = next(c);
+
+			if (child != null)
+			{
+				return child;
+			}
+
+			child = new Node();
+
+			if (c >= '0' && c <= '9')
+			{
+				digit = child;
+				return child;
+			}
+
+			chars = Arrays.copyOf(chars, chars.length + 1);
+			children = Arrays.copyOf(children, children.length + 1);
+			chars[chars.length - 1] = c;
+			children[children.length - 1] = child;
+			return child;
+		}
+	}
+}
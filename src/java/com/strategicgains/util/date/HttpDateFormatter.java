@@ -0,0 +1,102 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the fixed-width RFC 1123 HTTP-date (e.g. "Sun, 06 Nov 1994 08:49:37 GMT") directly from epoch
+ * milliseconds, without a Calendar or any locale machinery.  Instances hold no state and may be shared
+ * between threads.
+ * <p>
+ * Only years from EpochDays.MIN_YEAR to EpochDays.MAX_YEAR fit the fixed-width form; callers check
+ * isSupported() and use SimpleDateFormat for anything else.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see HttpDateParser
+ */
+public class HttpDateFormatter
+extends AsciiDateFormatter
+{
+	public static final int LENGTH = 29;
+
+	private static final byte[][] DAY_NAMES = ascii(HttpDateParser.DAY_NAMES);
+	private static final byte[][] MONTH_NAMES = ascii(HttpDateParser.MONTH_NAMES);
+
+	@Override
+	public int maxLength()
+	{
+		return LENGTH;
+	}
+
+	/**
+	 * Writes the RFC 1123 representation, as US-ASCII, into the array at the given offset.
+	 *
+	 * @param epochMillis a supported instant (see isSupported()).
+	 * @return the offset after the last byte written.
+	 */
+	@Override
+	public int format(long epochMillis, byte[] bytes, int offset)
+	{
+		long epochDay = Math.floorDiv(epochMillis, EpochDays.MILLIS_PER_DAY);
+		int millisOfDay = (int) (epochMillis - epochDay * EpochDays.MILLIS_PER_DAY);
+		int date = EpochDays.toCivil(epochDay);
+		int secondOfDay = millisOfDay / 1000;
+		int i = name(DAY_NAMES[EpochDays.dayOfWeek(epochDay)], bytes, offset);
+		bytes[i++] = ',';
+		bytes[i++] = ' ';
+		i = digits(date % 100, 2, bytes, i);
+		bytes[i++] = ' ';
+		i = name(MONTH_NAMES[date / 100 % 100 - 1], bytes, i);
+		bytes[i++] = ' ';
+		i = digits(date / 10000, 4, bytes, i);
+		bytes[i++] = ' ';
+		i = digits(secondOfDay / 3600, 2, bytes, i);
+		bytes[i++] = ':';
+		i = digits(secondOfDay / 60 % 60, 2, bytes, i);
+		bytes[i++] = ':';
+		i = digits(secondOfDay % 60, 2, bytes, i);
+		bytes[i++] = ' ';
+		bytes[i++] = 'G';
+		bytes[i++] = 'M';
+		bytes[i++] = 'T';
+		return i;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private static byte[][] ascii(String[] names)
+	{
+		byte[][] bytes = new byte[names.length][];
+
+		for (int i = 0; i < names.length; ++i)
+		{
+			bytes[i] = names[i].getBytes(StandardCharsets.US_ASCII);
+		}
+
+		return bytes;
+	}
+
+	private static int name(byte[] name, byte[] bytes, int i)
+	{
+		bytes[i] = name[0];
+		bytes[i + 1] = name[1];
+		bytes[i + 2] = name[2];
+		return i + 3;
+	}
+}
@@ -0,0 +1,309 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+/**
+ * A positional parser for the three HTTP-date formats (see RFC 2616, section 3.3.1):
+ * <p>
+ *       Sun, 06 Nov 1994 08:49:37 GMT  ; RFC 822, updated by RFC 1123<br>
+ *       Sunday, 06-Nov-94 08:49:37 GMT ; RFC 850, obsoleted by RFC 1036<br>
+ *       Sun Nov  6 08:49:37 1994       ; ANSI C's asctime() format<br>
+ * </p>
+ * Day and month names are matched against lookup tables rather than locale data, and every field sits
+ * at a fixed offset from the start (or, for RFC 850, from the comma after the day name).
+ * <p>
+ * Like the HTTP specification, the parser is case sensitive and expects exactly the layout above.  Anything
+ * else is reported as a miss so callers can fall back to SimpleDateFormat, which is more forgiving.  The
+ * weekday is checked for spelling but, as with SimpleDateFormat, not against the date.  Two-digit RFC 850
+ * years are placed in the same century window SimpleDateFormat uses, and the one ambiguous two-digit year
+ * in that window is left to SimpleDateFormat.  Instances hold no mutable state and may be shared between
+ * threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see HttpDateFormatter
+ */
+public class HttpDateParser
+{
+	/**
+	 * Returned by tryParse() when the text is not a strict HTTP-date.
+	 */
+	public static final long INVALID = Long.MIN_VALUE;
+
+	static final String[] DAY_NAMES = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
+	static final String[] MONTH_NAMES = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+	private static final String[] LONG_DAY_NAMES = {"Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"};
+	private static final long[] DAY_KEYS = keys(DAY_NAMES);
+	private static final long[] MONTH_KEYS = keys(MONTH_NAMES);
+
+	private static final int RFC1123_LENGTH = 29;	// Sun, 06 Nov 1994 08:49:37 GMT
+	private static final int ASCTIME_LENGTH = 24;	// Sun Nov  6 08:49:37 1994
+	private static final int RFC850_SUFFIX_LENGTH = 24;	// , 06-Nov-94 08:49:37 GMT
+
+	private int centuryStartYear;
+
+	public HttpDateParser()
+	{
+		Calendar centuryStart = Calendar.getInstance();
+		centuryStart.setTime(new SimpleDateFormat().get2DigitYearStart());
+		this.centuryStartYear = centuryStart.get(Calendar.YEAR);
+	}
+
+	/**
+	 * Parses the given text as an HTTP-date.
+	 *
+	 * @param text an HTTP-date in any of the three formats.
+	 * @return the UTC epoch milliseconds.
+	 * @throws ParseException if the text is not an HTTP-date.
+	 */
+	public long parse(CharSequence text)
+	throws ParseException
+	{
+		long millis = tryParse(text, 0, text.length());
+
+		if (millis == INVALID)
+		{
+			throw new ParseException("Unparseable HTTP date: \"" + text + "\"", 0);
+		}
+
+		return millis;
+	}
+
+	/**
+	 * Parses the characters from offset (inclusive) to end (exclusive) as an HTTP-date.
+	 *
+	 * @return the UTC epoch milliseconds, or INVALID if the characters are not a strict HTTP-date.
+	 */
+	public long tryParse(CharSequence text, int offset, int end)
+	{
+		int length = end - offset;
+
+		if (length == RFC1123_LENGTH && text.charAt(offset + 3) == ',')
+		{
+			return parseRfc1123(text, offset);
+		}
+
+		if (length == ASCTIME_LENGTH && text.charAt(offset + 3) == ' ')
+		{
+			return parseAsctime(text, offset);
+		}
+
+		if (length > RFC850_SUFFIX_LENGTH)
+		{
+			return parseRfc850(text, offset, end);
+		}
+
+		return INVALID;
+	}
+
+
+	// SECTION: FORMATS - PRIVATE
+
+	/**
+	 * Sun, 06 Nov 1994 08:49:37 GMT
+	 */
+	private long parseRfc1123(CharSequence text, int i)
+	{
+		if (lookup(DAY_KEYS, text, i) < 0
+			|| text.charAt(i + 4) != ' '
+			|| text.charAt(i + 7) != ' '
+			|| text.charAt(i + 11) != ' '
+			|| text.charAt(i + 16) != ' '
+			|| !isGmt(text, i + 25))
+		{
+			return INVALID;
+		}
+
+		int day = digits(text, i + 5, 2);
+		int month = lookup(MONTH_KEYS, text, i + 8) + 1;
+		int year = digits(text, i + 12, 4);
+		return toEpochMillis(year, month, day, text, i + 17);
+	}
+
+	/**
+	 * Sunday, 06-Nov-94 08:49:37 GMT
+	 */
+	private long parseRfc850(CharSequence text, int offset, int end)
+	{
+		int i = end - RFC850_SUFFIX_LENGTH;
+
+		if (!isLongDayName(text, offset, i)
+			|| text.charAt(i) != ','
+			|| text.charAt(i + 1) != ' '
+			|| text.charAt(i + 4) != '-'
+			|| text.charAt(i + 8) != '-'
+			|| text.charAt(i + 11) != ' '
+			|| !isGmt(text, i + 20))
+		{
+			return INVALID;
+		}
+
+		int day = digits(text, i + 2, 2);
+		int month = lookup(MONTH_KEYS, text, i + 5) + 1;
+		int year = toFourDigitYear(digits(text, i + 9, 2));
+		return toEpochMillis(year, month, day, text, i + 12);
+	}
+
+	/**
+	 * Sun Nov  6 08:49:37 1994
+	 */
+	private long parseAsctime(CharSequence text, int i)
+	{
+		if (lookup(DAY_KEYS, text, i) < 0
+			|| text.charAt(i + 7) != ' '
+			|| text.charAt(i + 10) != ' '
+			|| text.charAt(i + 19) != ' ')
+		{
+			return INVALID;
+		}
+
+		int month = lookup(MONTH_KEYS, text, i + 4) + 1;
+		int day = (text.charAt(i + 8) == ' ' ? digits(text, i + 9, 1) : digits(text, i + 8, 2));
+		int year = digits(text, i + 20, 4);
+		return toEpochMillis(year, month, day, text, i + 11);
+	}
+
+	/**
+	 * Validates the date and reads the HH:mm:ss that follows it at index i.
+	 */
+	private static long toEpochMillis(int year, int month, int day, CharSequence text, int i)
+	{
+		if (text.charAt(i + 2) != ':' || text.charAt(i + 5) != ':' || !EpochDays.isValid(year, month, day))
+		{
+			return INVALID;
+		}
+
+		int hour = digits(text, i, 2);
+		int minute = digits(text, i + 3, 2);
+		int second = digits(text, i + 6, 2);
+
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+		{
+			return INVALID;
+		}
+
+		return EpochDays.toEpochMillis(year, month, day, hour, minute, second, 0);
+	}
+
+	/**
+	 * Places a two-digit year in the 100-year window starting at SimpleDateFormat's default century
+	 * start.  The two-digit year equal to the start year is ambiguous (it depends on the rest of the
+	 * date), so it is reported as -1 and left for SimpleDateFormat to resolve.
+	 */
+	private int toFourDigitYear(int twoDigitYear)
+	{
+		int ambiguousYear = centuryStartYear % 100;
+
+		if (twoDigitYear < 0 || twoDigitYear == ambiguousYear)
+		{
+			return -1;
+		}
+
+		return twoDigitYear + (centuryStartYear / 100) * 100 + (twoDigitYear < ambiguousYear ? 100 : 0);
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private static long[] keys(String[] names)
+	{
+		long[] keys = new long[names.length];
+
+		for (int i = 0; i < names.length; ++i)
+		{
+			keys[i] = key(names[i], 0);
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Packs three characters into a long so a name can be matched with a single comparison.
+	 */
+	private static long key(CharSequence text, int i)
+	{
+		return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+	}
+
+	/**
+	 * @return the index of the three-character name at index i, or -1 if it isn't in the table.
+	 */
+	private static int lookup(long[] keys, CharSequence text, int i)
+	{
+		long key = key(text, i);
+
+		for (int k = 0; k < keys.length; ++k)
+		{
+			if (keys[k] == key)
+			{
+				return k;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean isLongDayName(CharSequence text, int offset, int end)
+	{
+		int day = lookup(DAY_KEYS, text, offset);
+
+		if (day < 0 || LONG_DAY_NAMES[day].length() != end - offset)
+		{
+			return false;
+		}
+
+		for (int i = 3; i < end - offset; ++i)
+		{
+			if (text.charAt(offset + i) != LONG_DAY_NAMES[day].charAt(i))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isGmt(CharSequence text, int i)
+	{
+		return text.charAt(i) == ' ' && text.charAt(i + 1) == 'G' && text.charAt(i + 2) == 'M' && text.charAt(i + 3) == 'T';
+	}
+
+	/**
+	 * @return the value of count digits starting at index i, or -1 if they are not all digits.
+	 */
+	private static int digits(CharSequence text, int i, int count)
+	{
+		int value = 0;
+
+		for (int j = i; j < i + count; ++j)
+		{
+			int digit = text.charAt(j) - '0';
+
+			if (digit < 0 || digit > 9)
+			{
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+}
@@ -15,9 +15,6 @@
 */
 package com.strategicgains.util.date;
 
-import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_OUTPUT_FORMAT;
-import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_INPUT_FORMATS;;
-
 /**
  * <p>
  * This timestamp adapter conforms to the HTTP 1.1 (RFC 1123) specification for reading and writing full dates in HTTP headers.
@@ -44,6 +41,10 @@ import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_INPUT_FO
  * </p>
  * Oh, by the way, this adapter also parses the default time stamp format output by TimestampAdapter and the default
  * date format output by DateAdapter.
+ * <p>
+ * The three HTTP-date formats are parsed and written positionally by {@link HttpHeaderTimestampProcessor}, with
+ * SimpleDateFormat used only for the remaining formats and lenient input.
+ * </p>
  * 
  * @author toddf
  * @since Oct 3, 2011
@@ -53,6 +54,6 @@ extends DateAdapter
 {
 	public HttpHeaderTimestampAdapter()
 	{
-		super(RFC1123_OUTPUT_FORMAT, RFC1123_INPUT_FORMATS);
+		super(new HttpHeaderTimestampProcessor());
 	}
 }
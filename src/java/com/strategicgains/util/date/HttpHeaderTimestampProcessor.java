@@ -0,0 +1,51 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_OUTPUT_FORMAT;
+
+import java.util.Locale;
+
+/**
+ * A DateFormatProcessor for HTTP-dates.  RFC 1123, RFC 850 and asctime input is parsed positionally by
+ * {@link HttpDateParser}.  Output is always in English, as the RFC requires, whatever the default
+ * locale: it is written by the {@link CachedHttpDateFormatter} DateFormatProcessor picks for
+ * RFC1123_OUTPUT_FORMAT, so formatting the current time repeatedly (e.g. for the Date header) costs a
+ * single comparison.  Anything the fast paths don't handle (the ISO time stamp and date forms, lenient
+ * input, years outside EpochDays.MIN_YEAR to EpochDays.MAX_YEAR) goes through the SimpleDateFormats for
+ * RFC1123_INPUT_FORMATS and RFC1123_OUTPUT_FORMAT as before.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class HttpHeaderTimestampProcessor
+extends DateFormatProcessor
+{
+	private HttpDateParser parser = new HttpDateParser();
+
+	public HttpHeaderTimestampProcessor()
+	{
+		super(RFC1123_OUTPUT_FORMAT, Locale.US, RFC1123_INPUT_FORMATS);
+	}
+
+	@Override
+	protected long tryParse(CharSequence src, int offset, int end)
+	{
+		long millis = parser.tryParse(src, offset, end);
+		return (millis == HttpDateParser.INVALID ? NOT_PARSED : millis);
+	}
+}
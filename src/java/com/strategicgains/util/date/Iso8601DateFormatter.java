@@ -0,0 +1,40 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+/**
+ * Writes the ISO 8601 calendar date, yyyy-MM-dd (DateAdapterConstants.DATE_OUTPUT_FORMAT), in UTC.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601DateFormatter
+extends AsciiDateFormatter
+{
+	public static final int LENGTH = 10;
+
+	@Override
+	public int maxLength()
+	{
+		return LENGTH;
+	}
+
+	@Override
+	public int format(long epochMillis, byte[] bytes, int offset)
+	{
+		return date(EpochDays.toCivil(Math.floorDiv(epochMillis, EpochDays.MILLIS_PER_DAY)), bytes, offset);
+	}
+}
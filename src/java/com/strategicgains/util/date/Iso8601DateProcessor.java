@@ -0,0 +1,55 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.DATE_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.DATE_OUTPUT_FORMAT;
+
+/**
+ * A DateFormatProcessor for DATE_INPUT_FORMATS.  The YYYY-MM-DD and YYYYMMDD forms are read positionally
+ * by {@link Iso8601DateParser}; the US forms, lenient input and dates outside EpochDays.MIN_YEAR to
+ * EpochDays.MAX_YEAR go through the SimpleDateFormats as before.  So does every date under a default
+ * locale whose calendar isn't Gregorian (e.g. th-TH), where the SimpleDateFormats read other years.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601DateProcessor
+extends DateFormatProcessor
+{
+	private static final String SAMPLE = "2010-04-07";
+	private static final long SAMPLE_MILLIS = 1270598400000L;
+
+	private Iso8601DateParser parser;
+
+	public Iso8601DateProcessor()
+	{
+		super(DATE_OUTPUT_FORMAT, DATE_INPUT_FORMATS);
+		this.parser = (isParsedAs(SAMPLE, SAMPLE_MILLIS) ? new Iso8601DateParser() : null);
+	}
+
+	@Override
+	protected long tryParse(CharSequence src, int offset, int end)
+	{
+		if (parser == null)
+		{
+			return NOT_PARSED;
+		}
+
+		long epochDay = parser.tryParse(src, offset, end);
+		return (epochDay == Iso8601DateParser.INVALID ? NOT_PARSED : epochDay * EpochDays.MILLIS_PER_DAY);
+	}
+}
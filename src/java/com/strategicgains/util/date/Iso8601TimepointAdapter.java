@@ -17,9 +17,12 @@
 
 package com.strategicgains.util.date;
 
+import java.text.ParseException;
 
 /**
- * Utilizes the {@link Iso8601TimepointCallback} to implement ISO 8601 time point parsing and formatting.
+ * Utilizes the {@link Iso8601TimepointProcessor} to implement ISO 8601 time point parsing and formatting.
+ * Time points are parsed by a single-pass parser, with the {@link Iso8601TimepointCallback} and
+ * SimpleDateFormat used only as a fallback for lenient input.
  * 
  * @author toddf
  * @since Nov 13, 2009
@@ -27,9 +30,48 @@ package com.strategicgains.util.date;
 public class Iso8601TimepointAdapter
 extends DateAdapter
 {
+	private Iso8601TimepointProcessor processor;
+
 	public Iso8601TimepointAdapter()
 	{
-		super(DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT, DateAdapterConstants.TIMESTAMP_INPUT_FORMATS);
-		setPreParseCallback(new Iso8601TimepointCallback());
+		this(new Iso8601TimepointProcessor());
+	}
+
+	private Iso8601TimepointAdapter(Iso8601TimepointProcessor processor)
+	{
+		super(processor);
+		this.processor = processor;
+	}
+
+	/**
+	 * Parses a time point into its instant and the zone offset it was written with, so the offset need
+	 * not be recovered by parsing the text again.  A pre-parse callback, if registered, is applied first.
+	 * The post-parse callback is not, since it works on Dates.
+	 * 
+	 * @param text an ISO 8601 time point.
+	 * @throws ParseException if the time point is not in one of the input formats.
+	 */
+	public OffsetTimepoint parseWithOffset(CharSequence text)
+	throws ParseException
+	{
+		return parseWithOffset(text, 0, text.length());
+	}
+
+	/**
+	 * Parses the time point occupying length characters of src, starting at offset, into its instant
+	 * and the zone offset it was written with.
+	 * 
+	 * @see #parseWithOffset(CharSequence)
+	 */
+	public OffsetTimepoint parseWithOffset(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		if (hasPreParseCallback())
+		{
+			String text = beforeParse(src.subSequence(offset, offset + length).toString());
+			return processor.parseWithOffset(text, 0, text.length());
+		}
+
+		return processor.parseWithOffset(src, offset, length);
 	}
 }
@@ -24,7 +24,7 @@ import com.strategicgains.util.AdapterCallback;
 
 /**
  * Utilizes regular expressions to augment the Java SimpleDateFormat handling for ISO 8601.  Called by
- * Iso8601TimestampAdapter before parsing the date string, this callback checks to see if the timezone
+ * Iso8601TimepointProcessor before falling back to SimpleDateFormat parsing, this callback checks to see if the timezone
  * offset is abbreviated (e.g. of the form "+/-HH") or contains a colon (e.g. +/-HH:MM).  If so, 
  * string substitution is performed and the augmented string returned to the parser.
  * 
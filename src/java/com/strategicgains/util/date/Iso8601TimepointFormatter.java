@@ -0,0 +1,98 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+/**
+ * Writes an ISO 8601 time point in UTC: yyyy-MM-dd'T'HH:mm:ss.SSS'Z' (DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT)
+ * with milliseconds, or yyyy-MM-dd'T'HH:mm:ss'Z' (DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT) without.
+ * <p>
+ * Consecutive time stamps (e.g. in log output) nearly always fall on the same UTC day, so the formatter
+ * remembers the rendered yyyy-MM-dd'T' prefix of the last day it wrote and only converts the epoch day to
+ * a calendar date when the day changes.  One formatter serves every TimestampAdapter and
+ * Iso8601TimepointAdapter in the JVM (see CompiledPatterns), so the prefix is remembered per thread: a
+ * thread writing other days than its neighbours (e.g. a chunk of formatAll() on an Executor) neither
+ * evicts their prefix nor waits on them, and a new day is rendered in place without allocating.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601TimepointFormatter
+extends AsciiDateFormatter
+{
+	private static final int PREFIX_LENGTH = 11;
+
+	private boolean withMillis;
+	private ThreadLocal<DayPrefix> localPrefix = ThreadLocal.withInitial(DayPrefix::new);
+
+	/**
+	 * @param withMillis true to write milliseconds (the TimestampAdapter format).
+	 */
+	public Iso8601TimepointFormatter(boolean withMillis)
+	{
+		this.withMillis = withMillis;
+	}
+
+	@Override
+	public int maxLength()
+	{
+		return (withMillis ? 24 : 20);
+	}
+
+	@Override
+	public int format(long epochMillis, byte[] bytes, int offset)
+	{
+		long epochDay = Math.floorDiv(epochMillis, EpochDays.MILLIS_PER_DAY);
+		int millisOfDay = (int) (epochMillis - epochDay * EpochDays.MILLIS_PER_DAY);
+		int secondOfDay = millisOfDay / 1000;
+		DayPrefix prefix = localPrefix.get();
+
+		if (prefix.epochDay != epochDay)
+		{
+			prefix.render(epochDay);
+		}
+
+		System.arraycopy(prefix.bytes, 0, bytes, offset, PREFIX_LENGTH);
+		int i = digits(secondOfDay / 3600, 2, bytes, offset + PREFIX_LENGTH);
+		bytes[i++] = ':';
+		i = digits(secondOfDay / 60 % 60, 2, bytes, i);
+		bytes[i++] = ':';
+		i = digits(secondOfDay % 60, 2, bytes, i);
+
+		if (withMillis)
+		{
+			bytes[i++] = '.';
+			i = digits(millisOfDay % 1000, 3, bytes, i);
+		}
+
+		bytes[i++] = 'Z';
+		return i;
+	}
+
+	/**
+	 * One thread's rendered yyyy-MM-dd'T' for the last epoch day it formatted.
+	 */
+	private static final class DayPrefix
+	{
+		private long epochDay = Long.MIN_VALUE;
+		private byte[] bytes = new byte[PREFIX_LENGTH];
+
+		private void render(long epochDay)
+		{
+			bytes[date(EpochDays.toCivil(epochDay), bytes, 0)] = 'T';
+			this.epochDay = epochDay;
+		}
+	}
+}
@@ -0,0 +1,320 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.text.ParseException;
+
+/**
+ * A single-pass, allocation-free parser for the ISO 8601 time points accepted by Iso8601TimepointAdapter.
+ * It reads the text one character at a time and computes UTC epoch milliseconds directly.
+ * <p>
+ * Accepted forms are a calendar date, 'T', a time and a zone designator:
+ * <ul>
+ * <li>YYYY-MM-DDTHH:MM, YYYY-MM-DDTHH:MM:SS or YYYY-MM-DDTHH:MM:SS.sss</li>
+ * <li>YYYY-MM-DDTHHMM or YYYY-MM-DDTHHMMSS</li>
+ * </ul>
+ * followed by 'Z', +/-HH, +/-HHMM or +/-HH:MM.
+ * <p>
+ * The parser is strict: field widths are fixed, values must be in range and the zone designator must
+ * end the text.  Anything else (including the lenient forms SimpleDateFormat tolerates) is reported
+ * as a miss, so callers can fall back to the SimpleDateFormat-based path and get the same result they
+ * always did.  Instances hold no state and may be shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Iso8601TimepointProcessor
+ */
+public class Iso8601TimepointParser
+{
+	/**
+	 * Returned by tryParse() when the text is not a strict ISO 8601 time point.  No supported time
+	 * point maps to this value.
+	 */
+	public static final long INVALID = Long.MIN_VALUE;
+
+	private static final int OFFSET_BITS = 12;
+	private static final int OFFSET_BIAS = 1 << (OFFSET_BITS - 1);
+
+	/**
+	 * Parses the given text as an ISO 8601 time point.
+	 *
+	 * @param text an ISO 8601 time point.
+	 * @return the UTC epoch milliseconds.
+	 * @throws ParseException if the text is not a supported ISO 8601 time point.
+	 */
+	public long parse(CharSequence text)
+	throws ParseException
+	{
+		long millis = tryParse(text, 0, text.length());
+
+		if (millis == INVALID)
+		{
+			throw new ParseException("Unparseable ISO 8601 time point: \"" + text + "\"", 0);
+		}
+
+		return millis;
+	}
+
+	/**
+	 * Parses the characters from offset (inclusive) to end (exclusive) as an ISO 8601 time point.
+	 *
+	 * @param text the characters to parse.
+	 * @param offset index of the first character of the time point.
+	 * @param end index after the last character of the time point.
+	 * @return the UTC epoch milliseconds, or INVALID if the characters are not a supported time point.
+	 */
+	public long tryParse(CharSequence text, int offset, int end)
+	{
+		long packed = scan(text, offset, end);
+
+		if (packed == INVALID)
+		{
+			return INVALID;
+		}
+
+		return localMillis(packed) - offsetMinutes(packed) * EpochDays.MILLIS_PER_MINUTE;
+	}
+
+	/**
+	 * Parses the given text as an ISO 8601 time point, keeping the zone offset it was written with.
+	 *
+	 * @param text an ISO 8601 time point.
+	 * @throws ParseException if the text is not a supported ISO 8601 time point.
+	 */
+	public OffsetTimepoint parseWithOffset(CharSequence text)
+	throws ParseException
+	{
+		OffsetTimepoint timepoint = tryParseWithOffset(text, 0, text.length());
+
+		if (timepoint == null)
+		{
+			throw new ParseException("Unparseable ISO 8601 time point: \"" + text + "\"", 0);
+		}
+
+		return timepoint;
+	}
+
+	/**
+	 * Parses the characters from offset (inclusive) to end (exclusive) as an ISO 8601 time point, in the
+	 * same single pass as tryParse(), keeping the zone offset it was written with ('Z' is an offset of 0).
+	 *
+	 * @param text the characters to parse.
+	 * @param offset index of the first character of the time point.
+	 * @param end index after the last character of the time point.
+	 * @return the instant and offset, or null if the characters are not a supported time point.
+	 */
+	public OffsetTimepoint tryParseWithOffset(CharSequence text, int offset, int end)
+	{
+		long packed = scan(text, offset, end);
+
+		if (packed == INVALID)
+		{
+			return null;
+		}
+
+		long offsetMillis = offsetMinutes(packed) * EpochDays.MILLIS_PER_MINUTE;
+		return new OffsetTimepoint(localMillis(packed) - offsetMillis, (int) (offsetMillis / EpochDays.MILLIS_PER_SECOND));
+	}
+
+
+	// SECTION: SCANNING - PRIVATE
+
+	/**
+	 * Reads a time point, returning the wall-clock milliseconds it shows and its offset in minutes packed
+	 * into one long (see pack()), so neither tryParse() nor tryParseWithOffset() has to allocate.
+	 *
+	 * @return the packed result, or INVALID.
+	 */
+	private static long scan(CharSequence text, int offset, int end)
+	{
+		int i = offset;
+
+		// Date: YYYY-MM-DDT
+		if (end - i < 16
+			|| text.charAt(i + 4) != '-'
+			|| text.charAt(i + 7) != '-'
+			|| text.charAt(i + 10) != 'T')
+		{
+			return INVALID;
+		}
+
+		int year = SwarDigits.parse4(text, i);
+		int monthDay = SwarDigits.parsePairs(text, i + 5, i + 8);
+		int month = monthDay / 100;
+		int day = monthDay % 100;		// a miss (-1) leaves day negative
+
+		if (!EpochDays.isValid(year, month, day))
+		{
+			return INVALID;
+		}
+
+		// Time: HH:MM[:SS[.sss]] or HHMM[SS]
+		i += 11;
+		int hourAt = i;
+		int hourMinute;
+		int second = 0;
+		int millis = 0;
+		i += 2;
+
+		if (text.charAt(i) == ':')
+		{
+			hourMinute = SwarDigits.parsePairs(text, hourAt, i + 1);
+			i += 3;
+
+			if (i < end && text.charAt(i) == ':')
+			{
+				second = digits(text, end, i + 1, 2);
+				i += 3;
+
+				if (i < end && text.charAt(i) == '.')
+				{
+					millis = digits(text, end, i + 1, 3);
+					i += 4;
+				}
+			}
+		}
+		else
+		{
+			hourMinute = SwarDigits.parse4(text, hourAt);
+			i += 2;
+
+			if (i < end && isDigit(text.charAt(i)))
+			{
+				second = digits(text, end, i, 2);
+				i += 2;
+			}
+		}
+
+		int hour = hourMinute / 100;
+		int minute = hourMinute % 100;		// a miss (-1) leaves minute negative
+
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0 || i >= end)
+		{
+			return INVALID;
+		}
+
+		// Zone: Z, +/-HH, +/-HHMM or +/-HH:MM
+		int offsetMinutes = 0;
+		char designator = text.charAt(i++);
+
+		if (designator == '+' || designator == '-')
+		{
+			int offsetHours = digits(text, end, i, 2);
+			int zoneMinutes = 0;
+			i += 2;
+
+			if (i < end)
+			{
+				if (text.charAt(i) == ':')
+				{
+					++i;
+				}
+
+				zoneMinutes = digits(text, end, i, 2);
+				i += 2;
+			}
+
+			if (offsetHours < 0 || offsetHours > 23 || zoneMinutes < 0 || zoneMinutes > 59)
+			{
+				return INVALID;
+			}
+
+			offsetMinutes = offsetHours * 60 + zoneMinutes;
+
+			if (designator == '-')
+			{
+				offsetMinutes = -offsetMinutes;
+			}
+		}
+		else if (designator != 'Z')
+		{
+			return INVALID;
+		}
+
+		if (i != end)
+		{
+			return INVALID;
+		}
+
+		return pack(EpochDays.toEpochMillis(year, month, day, hour, minute, second, millis), offsetMinutes);
+	}
+
+	/**
+	 * Packs wall-clock milliseconds (under 2^49 in magnitude for the supported years) and an offset of at
+	 * most +/-23:59 into one long: the milliseconds in the high bits and the biased offset in the low 12.
+	 */
+	private static long pack(long localMillis, int offsetMinutes)
+	{
+		return (localMillis << OFFSET_BITS) | (offsetMinutes + OFFSET_BIAS);
+	}
+
+	private static long localMillis(long packed)
+	{
+		return packed >> OFFSET_BITS;
+	}
+
+	private static int offsetMinutes(long packed)
+	{
+		return (int) (packed & ((1 << OFFSET_BITS) - 1)) - OFFSET_BIAS;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	/**
+	 * Reads count decimal digits starting at index i, after checking they lie before end.
+	 *
+	 * @return the value, or -1 if the characters are not all digits or run past the end.
+	 */
+	private static int digits(CharSequence text, int end, int i, int count)
+	{
+		if (i + count > end)
+		{
+			return -1;
+		}
+
+		return digits(text, i, count);
+	}
+
+	/**
+	 * Reads count decimal digits starting at index i.  The caller guarantees the characters exist.
+	 *
+	 * @return the value, or -1 if the characters are not all digits.
+	 */
+	private static int digits(CharSequence text, int i, int count)
+	{
+		int value = 0;
+
+		for (int j = i; j < i + count; ++j)
+		{
+			int digit = text.charAt(j) - '0';
+
+			if (digit < 0 || digit > 9)
+			{
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+}
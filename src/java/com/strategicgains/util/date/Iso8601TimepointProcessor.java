@@ -0,0 +1,157 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT;
+
+import java.text.ParseException;
+
+import com.strategicgains.util.AdapterCallback;
+
+/**
+ * A DateFormatProcessor for ISO 8601 time points.  Parsing first tries the hand-written
+ * {@link Iso8601TimepointParser}, which handles every documented time point form in a single pass.
+ * Only when that misses does it fall back to the {@link Iso8601TimepointCallback} and the
+ * SimpleDateFormat-based parsing of TIMESTAMP_INPUT_FORMATS, so lenient input is still accepted exactly
+ * as before.  Under a default locale whose calendar isn't Gregorian (e.g. th-TH), the input formats read
+ * other years than the hand-written parser would, so every time point is left to them.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601TimepointProcessor
+extends DateFormatProcessor
+{
+	private static final String SAMPLE = "2010-04-07T11:52:13.123Z";
+	private static final long SAMPLE_MILLIS = 1270641133123L;
+
+	private Iso8601TimepointParser parser;
+	private AdapterCallback<String> fallbackCallback = new Iso8601TimepointCallback();
+
+	public Iso8601TimepointProcessor()
+	{
+		super(TIME_POINT_OUTPUT_FORMAT, TIMESTAMP_INPUT_FORMATS);
+		this.parser = (isParsedAs(SAMPLE, SAMPLE_MILLIS) ? new Iso8601TimepointParser() : null);
+	}
+
+	/**
+	 * Parses the time point occupying length characters of src, starting at offset, keeping the zone
+	 * offset it was written with.  Strict time points take a single pass through the hand-written parser.
+	 * Lenient ones go through the usual fallback for the instant, with the offset read from the zone
+	 * designator that ends them.
+	 *
+	 * @param src the characters containing the time point.
+	 * @param offset index of the first character of the time point.
+	 * @param length the number of characters in the time point.
+	 * @throws ParseException if the time point is not in one of the input formats.
+	 */
+	public OffsetTimepoint parseWithOffset(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		OffsetTimepoint timepoint = (parser == null ? null : parser.tryParseWithOffset(src, offset, offset + length));
+
+		if (timepoint != null)
+		{
+			return timepoint;
+		}
+
+		long millis = parseEpochMillis(src, offset, length);
+		return new OffsetTimepoint(millis, zoneOffsetSeconds(src, offset, offset + length));
+	}
+
+	@Override
+	protected long tryParse(CharSequence src, int offset, int end)
+	{
+		if (parser == null)
+		{
+			return NOT_PARSED;
+		}
+
+		long millis = parser.tryParse(src, offset, end);
+		return (millis == Iso8601TimepointParser.INVALID ? NOT_PARSED : millis);
+	}
+
+	@Override
+	protected String beforeFallback(String text)
+	{
+		return fallbackCallback.process(text);
+	}
+
+	@Override
+	protected boolean isRawTextParsed()
+	{
+		return false;
+	}
+
+	/**
+	 * Reads the zone designator ending a time point that SimpleDateFormat accepted: 'Z', +/-HH, +/-HHMM or
+	 * +/-HH:MM (the only forms the 'Z' and 'X' pattern letters take).
+	 *
+	 * @return the offset in seconds, or 0 (UTC) if no designator is recognized.
+	 */
+	private static int zoneOffsetSeconds(CharSequence src, int offset, int end)
+	{
+		for (int length = 3; length <= 6; ++length)
+		{
+			int start = end - length;
+
+			if (start < offset)
+			{
+				break;
+			}
+
+			char sign = src.charAt(start);
+
+			if (sign != '+' && sign != '-')
+			{
+				continue;
+			}
+
+			int hours = digits(src, start + 1, 2);
+			int minutes = (length == 3 ? 0 : digits(src, end - 2, 2));
+
+			if (hours < 0 || minutes < 0 || (length == 6 && src.charAt(start + 3) != ':'))
+			{
+				break;
+			}
+
+			int seconds = (hours * 60 + minutes) * 60;
+			return (sign == '-' ? -seconds : seconds);
+		}
+
+		return 0;
+	}
+
+	private static int digits(CharSequence src, int i, int count)
+	{
+		int value = 0;
+
+		for (int j = i; j < i + count; ++j)
+		{
+			int digit = src.charAt(j) - '0';
+
+			if (digit < 0 || digit > 9)
+			{
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * A parsed time point together with the zone offset it was written with, so callers that need both the
+ * instant and the original wall-clock time get them from a single parse.  Instances are immutable.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Iso8601TimepointParser#tryParseWithOffset(CharSequence, int, int)
+ */
+public final class OffsetTimepoint
+{
+	private final long epochMillis;
+	private final int offsetSeconds;
+
+	/**
+	 * @param epochMillis the instant, as UTC epoch milliseconds.
+	 * @param offsetSeconds the offset from UTC the time point was written with (e.g. -25200 for -07:00).
+	 */
+	public OffsetTimepoint(long epochMillis, int offsetSeconds)
+	{
+		this.epochMillis = epochMillis;
+		this.offsetSeconds = offsetSeconds;
+	}
+
+	/**
+	 * @return the instant, as UTC epoch milliseconds.
+	 */
+	public long getEpochMillis()
+	{
+		return epochMillis;
+	}
+
+	/**
+	 * @return the offset from UTC, in seconds, that the time point was written with.
+	 */
+	public int getOffsetSeconds()
+	{
+		return offsetSeconds;
+	}
+
+	/**
+	 * @return the wall-clock time the text showed, as milliseconds from 1970-01-01T00:00 in the same offset.
+	 */
+	public long getLocalMillis()
+	{
+		return epochMillis + offsetSeconds * EpochDays.MILLIS_PER_SECOND;
+	}
+
+	public Date toDate()
+	{
+		return new Date(epochMillis);
+	}
+
+	/**
+	 * @throws java.time.DateTimeException if the offset is beyond the +/-18:00 java.time supports.
+	 */
+	public OffsetDateTime toOffsetDateTime()
+	{
+		return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.ofTotalSeconds(offsetSeconds));
+	}
+
+	@Override
+	public boolean equals(Object that)
+	{
+		if (this == that)
+		{
+			return true;
+		}
+
+		if (!(that instanceof OffsetTimepoint))
+		{
+			return false;
+		}
+
+		OffsetTimepoint other = (OffsetTimepoint) that;
+		return epochMillis == other.epochMillis && offsetSeconds == other.offsetSeconds;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return 31 * Long.hashCode(epochMillis) + offsetSeconds;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "OffsetTimepoint[epochMillis=" + epochMillis + ", offsetSeconds=" + offsetSeconds + "]";
+	}
+}
@@ -0,0 +1,109 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+/**
+ * Reads groups of four or eight decimal digits at once, SIMD-within-a-register style: the characters
+ * are packed one per byte into an int or long (the first character in the lowest byte), checked to all
+ * be '0' to '9' with two masks, and converted with three multiply-and-shift steps that combine
+ * neighbouring digits into pairs, then quads, then the whole group.  That replaces a compare, a branch
+ * and a multiply per digit with a handful of word operations and a single branch.
+ * <p>
+ * The groups need not be contiguous: a four-digit group can be two pairs of digits with a separator
+ * between them, such as the MM and dd of yyyy-MM-dd, read as the single number MMdd.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class SwarDigits
+{
+	private static final int ZEROS_4 = 0x30303030;
+	private static final int HIGH_NIBBLES_4 = 0xF0F0F0F0;
+	private static final int SIXES_4 = 0x06060606;
+	private static final long ZEROS_8 = 0x3030303030303030L;
+	private static final long HIGH_NIBBLES_8 = 0xF0F0F0F0F0F0F0F0L;
+	private static final long SIXES_8 = 0x0606060606060606L;
+
+	private SwarDigits()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * @return the value of the four digits starting at i, or -1 if they are not all digits.
+	 */
+	static int parse4(CharSequence text, int i)
+	{
+		return parsePairs(text, i, i + 2);
+	}
+
+	/**
+	 * Reads the two digits at i followed by the two digits at j as one four-digit number.
+	 *
+	 * @return the value, or -1 if the four characters are not all digits.
+	 */
+	static int parsePairs(CharSequence text, int i, int j)
+	{
+		char c0 = text.charAt(i);
+		char c1 = text.charAt(i + 1);
+		char c2 = text.charAt(j);
+		char c3 = text.charAt(j + 1);
+
+		if ((c0 | c1 | c2 | c3) > 0xFF)
+		{
+			return -1;
+		}
+
+		int word = c0 | (c1 << 8) | (c2 << 16) | (c3 << 24);
+
+		if ((word & HIGH_NIBBLES_4) != ZEROS_4 || ((word + SIXES_4) & HIGH_NIBBLES_4) != ZEROS_4)
+		{
+			return -1;
+		}
+
+		int value = word - ZEROS_4;
+		value = (value * 10 + (value >>> 8)) & 0x00FF00FF;
+		return (value & 0xFF) * 100 + (value >>> 16);
+	}
+
+	/**
+	 * @return the value of the eight digits starting at i, or -1 if they are not all digits.
+	 */
+	static int parse8(CharSequence text, int i)
+	{
+		long word = 0L;
+		int chars = 0;
+
+		for (int j = 7; j >= 0; --j)
+		{
+			char c = text.charAt(i + j);
+			chars |= c;
+			word = (word << 8) | c;
+		}
+
+		if (chars > 0xFF
+			|| (word & HIGH_NIBBLES_8) != ZEROS_8
+			|| ((word + SIXES_8) & HIGH_NIBBLES_8) != ZEROS_8)
+		{
+			return -1;
+		}
+
+		long value = word - ZEROS_8;
+		value = (value * 10 + (value >>> 8)) & 0x00FF00FF00FF00FFL;
+		value = (value * 100 + (value >>> 16)) & 0x0000FFFF0000FFFFL;
+		return (int) ((value * 10000 + (value >>> 32)) & 0xFFFFFFFFL);
+	}
+}
@@ -15,47 +15,228 @@
 */
 package com.strategicgains.util.localdate;
 
-import static com.strategicgains.util.date.DateAdapterConstants.DATE_INPUT_FORMATS;
 import static com.strategicgains.util.date.DateAdapterConstants.DATE_OUTPUT_FORMAT;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
+import java.util.BitSet;
 
 import com.strategicgains.util.TextAdapter;
+import com.strategicgains.util.date.AsciiDateFormatter;
 import com.strategicgains.util.date.DateFormatProcessor;
+import com.strategicgains.util.date.EpochDays;
+import com.strategicgains.util.date.Iso8601DateFormatter;
+import com.strategicgains.util.date.Iso8601DateProcessor;
 
 /**
+ * Converts LocalDate to and from the DATE_INPUT_FORMATS and DATE_OUTPUT_FORMAT of DateAdapter.  The
+ * YYYY-MM-DD and YYYYMMDD forms are parsed straight to an epoch day; the others go through
+ * SimpleDateFormat.
+ * <p>
+ * For services that format the same range of dates over and over, the LocalDateAdapter(LocalDate, LocalDate)
+ * constructor renders every date in the range once, up front, so format() is an array lookup by epoch
+ * day.  Each date costs about 60 bytes, so 1970 through 2100 takes under 3MB.
+ * 
  * @author toddf
  * @since Aug 16, 2019
  */
 public class LocalDateAdapter
 implements TextAdapter<LocalDate>
 {
-	private static final ZoneId ZONE_ID = ZoneId.of("UTC").normalized();
+	private static final DateTimeFormatter OUTPUT_FORMAT = DateTimeFormatter.ofPattern(DATE_OUTPUT_FORMAT);
 
-	private DateFormatProcessor processor;
+	private DateFormatProcessor processor = new Iso8601DateProcessor();
+	private AsciiDateFormatter formatter = new Iso8601DateFormatter();
+	private long firstEpochDay;
+	private String[] formatted;
 
 	public LocalDateAdapter()
 	{
-		processor = new DateFormatProcessor(DATE_OUTPUT_FORMAT, DATE_INPUT_FORMATS);
+		// formats every date on demand.
+	}
+
+	/**
+	 * Creates an adapter that pre-renders every date from first to last (inclusive).  Dates outside the
+	 * range are formatted as usual.
+	 * 
+	 * @param first the first date to pre-render.
+	 * @param last the last date to pre-render.
+	 */
+	public LocalDateAdapter(LocalDate first, LocalDate last)
+	{
+		long days = last.toEpochDay() - first.toEpochDay() + 1;
+
+		if (days < 1 || days > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException("Invalid date range: " + first + " to " + last);
+		}
+
+		this.firstEpochDay = first.toEpochDay();
+		this.formatted = new String[(int) days];
+
+		for (int i = 0; i < formatted.length; ++i)
+		{
+			formatted[i] = render(LocalDate.ofEpochDay(firstEpochDay + i));
+		}
 	}
 
 	@Override
 	public LocalDate parse(String value)
 	throws ParseException
 	{
-		Date date = processor.parse(value);
-		return date.toInstant()
-			.atZone(ZONE_ID)
-			.toLocalDate();
+		return parse(value, 0, value.length());
+	}
+
+	/**
+	 * Parses the date occupying length characters of src, starting at offset, without first copying it
+	 * into a String.
+	 * 
+	 * @param src the characters containing the date.
+	 * @param offset index of the first character of the date.
+	 * @param length the number of characters in the date.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 */
+	public LocalDate parse(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		return LocalDate.ofEpochDay(parseEpochDay(src, offset, length));
+	}
+
+	/**
+	 * Parses the date occupying length characters of src, starting at offset, to the number of days since
+	 * 1970-01-01, without creating any objects for the YYYY-MM-DD and YYYYMMDD forms.
+	 * 
+	 * @param src the characters containing the date.
+	 * @param offset index of the first character of the date.
+	 * @param length the number of characters in the date.
+	 * @return the epoch day.
+	 * @throws ParseException if the date is not in one of the input formats.
+	 */
+	public long parseEpochDay(CharSequence src, int offset, int length)
+	throws ParseException
+	{
+		return Math.floorDiv(processor.parseEpochMillis(src, offset, length), EpochDays.MILLIS_PER_DAY);
+	}
+
+	/**
+	 * Parses each of the strings to the number of days since 1970-01-01 without throwing for the ones
+	 * that fail.
+	 * 
+	 * @param in the date strings, one per row.
+	 * @param outEpochDays receives the epoch day of row i at index i.  Failed rows are left unchanged.
+	 * @return the rows that failed to parse (including null rows), which is empty if every row parsed.
+	 * @throws IllegalArgumentException if outEpochDays is shorter than in.
+	 * @see DateFormatProcessor#parseAll(java.util.List, long[])
+	 */
+	public BitSet parseAll(CharSequence[] in, long[] outEpochDays)
+	{
+		BitSet failures = processor.parseAll(in, outEpochDays);
+
+		for (int i = failures.nextClearBit(0); i < in.length; i = failures.nextClearBit(i + 1))
+		{
+			outEpochDays[i] = Math.floorDiv(outEpochDays[i], EpochDays.MILLIS_PER_DAY);
+		}
+
+		return failures;
 	}
 
 	@Override
 	public String format(LocalDate value)
 	{
-		return value.format(DateTimeFormatter.ofPattern(DATE_OUTPUT_FORMAT));
+		if (formatted != null)
+		{
+			long index = value.toEpochDay() - firstEpochDay;
+
+			if (index >= 0 && index < formatted.length)
+			{
+				return formatted[(int) index];
+			}
+		}
+
+		return render(value);
+	}
+
+	/**
+	 * Appends the formatted date to out.  Dates from EpochDays.MIN_YEAR to EpochDays.MAX_YEAR are
+	 * written digit by digit with no String created.
+	 * 
+	 * @param value the date to format.
+	 * @param out where to append the characters (e.g. a StringBuilder or Writer).
+	 * @return out
+	 * @throws IOException if the Appendable does.
+	 */
+	public <A extends Appendable> A formatTo(LocalDate value, A out)
+	throws IOException
+	{
+		if (isFast(value))
+		{
+			formatter.format(toEpochMillis(value), out);
+		}
+		else
+		{
+			out.append(format(value));
+		}
+
+		return out;
+	}
+
+	/**
+	 * Writes the formatted date, as US-ASCII, into the array at the given offset.
+	 * 
+	 * @param value the date to format.
+	 * @param bytes the destination, with room for the output (10 bytes for most dates).
+	 * @param offset index of the first byte to write.
+	 * @return the offset after the last byte written.
+	 */
+	public int formatTo(LocalDate value, byte[] bytes, int offset)
+	{
+		if (isFast(value))
+		{
+			return formatter.format(toEpochMillis(value), bytes, offset);
+		}
+
+		return AsciiDateFormatter.writeAscii(format(value), bytes, offset);
+	}
+
+	/**
+	 * Writes the formatted date, as US-ASCII, into a heap or direct buffer at the given absolute index.
+	 * The buffer's position is left unchanged.
+	 * 
+	 * @param value the date to format.
+	 * @param buffer the destination, with room for the output (10 bytes for most dates).
+	 * @param index the absolute index of the first byte to write.
+	 * @return the index after the last byte written.
+	 */
+	public int formatTo(LocalDate value, ByteBuffer buffer, int index)
+	{
+		if (isFast(value))
+		{
+			return formatter.format(toEpochMillis(value), buffer, index);
+		}
+
+		return AsciiDateFormatter.writeAscii(format(value), buffer, index);
+	}
+
+	private String render(LocalDate value)
+	{
+		if (isFast(value))
+		{
+			return formatter.format(toEpochMillis(value));
+		}
+
+		return value.format(OUTPUT_FORMAT);
+	}
+
+	private static boolean isFast(LocalDate value)
+	{
+		return value.getYear() >= EpochDays.MIN_YEAR && value.getYear() <= EpochDays.MAX_YEAR;
+	}
+
+	private static long toEpochMillis(LocalDate value)
+	{
+		return value.toEpochDay() * EpochDays.MILLIS_PER_DAY;
 	}
 }
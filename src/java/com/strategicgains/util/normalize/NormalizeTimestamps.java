@@ -0,0 +1,239 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.normalize;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.strategicgains.util.date.DateAdapter;
+import com.strategicgains.util.date.HttpHeaderTimestampAdapter;
+import com.strategicgains.util.date.Iso8601TimepointAdapter;
+import com.strategicgains.util.date.TimestampAdapter;
+
+/**
+ * Command-line front end for {@link TimestampNormalizer}:
+ * <pre>
+ * java -cp DateAdapterJ.jar com.strategicgains.util.normalize.NormalizeTimestamps [options] &lt;in&gt; &lt;out&gt;
+ *
+ *   -c, --column N        zero-based index of the date field (default 0)
+ *   -d, --delimiter C     field delimiter; "tab" or "space" for those (default ,)
+ *   --from ADAPTER        adapter that parses the dates (default timestamp)
+ *   --to ADAPTER          adapter that formats them (default timestamp)
+ *   --header N            lines to copy unchanged at the start (default 0)
+ *   --threads N           worker threads (default: available processors)
+ *   --chunk-size BYTES    bytes per chunk (default 1048576)
+ * </pre>
+ * ADAPTER is one of date, timestamp, iso8601 or http.  An out of "-" writes to standard output.  A
+ * summary of the counts is printed to standard error.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class NormalizeTimestamps
+{
+	private static final String USAGE = "Usage: NormalizeTimestamps [-c N] [-d C] [--from ADAPTER] [--to ADAPTER]"
+		+ " [--header N] [--threads N] [--chunk-size BYTES] <in> <out>\n"
+		+ "ADAPTER is one of date, timestamp, iso8601 or http; <out> may be - for standard output.";
+
+	private NormalizeTimestamps()
+	{
+		// prevents instantiation.
+	}
+
+	public static void main(String[] args)
+	{
+		try
+		{
+			System.exit(run(System.err, args));
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		catch (IOException e)
+		{
+			System.err.println("Normalization failed: " + e);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Runs the tool without exiting.
+	 *
+	 * @param summary receives the summary of the counts.
+	 * @return the exit status.
+	 * @throws IllegalArgumentException if the arguments are invalid.
+	 * @throws IOException if reading or writing fails.
+	 */
+	static int run(PrintStream summary, String... args)
+	throws IOException
+	{
+		int column = 0;
+		char delimiter = ',';
+		String from = "timestamp";
+		String to = "timestamp";
+		int headerLines = 0;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int chunkSize = TimestampNormalizer.DEFAULT_CHUNK_SIZE;
+		int i = 0;
+
+		for (; i < args.length && args[i].startsWith("-") && args[i].length() > 1; i += 2)
+		{
+			String option = args[i];
+
+			if (i + 1 >= args.length)
+			{
+				throw new IllegalArgumentException("Missing value for " + option);
+			}
+
+			String value = args[i + 1];
+
+			switch (option)
+			{
+				case "-c":
+				case "--column":
+					column = toInt(option, value);
+					break;
+				case "-d":
+				case "--delimiter":
+					delimiter = toDelimiter(value);
+					break;
+				case "--from":
+					from = value;
+					break;
+				case "--to":
+					to = value;
+					break;
+				case "--header":
+					headerLines = toInt(option, value);
+					break;
+				case "--threads":
+					threads = toInt(option, value);
+					break;
+				case "--chunk-size":
+					chunkSize = toInt(option, value);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: " + option);
+			}
+		}
+
+		if (args.length - i != 2)
+		{
+			throw new IllegalArgumentException("Expected an input and an output file");
+		}
+
+		if (threads < 1)
+		{
+			throw new IllegalArgumentException("Invalid threads: " + threads);
+		}
+
+		TimestampNormalizer normalizer = new TimestampNormalizer(adapter(from), adapter(to), delimiter, column);
+		normalizer.setHeaderLines(headerLines);
+		normalizer.setChunkSize(chunkSize);
+		normalizer.setMaxChunksInFlight(2 * threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try (FileChannel in = FileChannel.open(Paths.get(args[i]), StandardOpenOption.READ);
+			WritableByteChannel out = open(args[i + 1]))
+		{
+			normalizer.normalize(in, out, executor);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		summary.println("lines=" + normalizer.getLineCount()
+			+ " normalized=" + normalizer.getNormalizedCount()
+			+ " unparseable=" + normalizer.getUnparseableCount());
+		return 0;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private static DateAdapter adapter(String name)
+	{
+		switch (name)
+		{
+			case "date":
+				return new DateAdapter();
+			case "timestamp":
+				return new TimestampAdapter();
+			case "iso8601":
+				return new Iso8601TimepointAdapter();
+			case "http":
+				return new HttpHeaderTimestampAdapter();
+			default:
+				throw new IllegalArgumentException("Unknown adapter: " + name);
+		}
+	}
+
+	private static WritableByteChannel open(String name)
+	throws IOException
+	{
+		if ("-".equals(name))
+		{
+			return Channels.newChannel(System.out);
+		}
+
+		Path path = Paths.get(name);
+		return FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	private static char toDelimiter(String value)
+	{
+		if ("tab".equals(value) || "\\t".equals(value))
+		{
+			return '\t';
+		}
+
+		if ("space".equals(value))
+		{
+			return ' ';
+		}
+
+		if (value.length() != 1)
+		{
+			throw new IllegalArgumentException("Invalid delimiter: " + value);
+		}
+
+		return value.charAt(0);
+	}
+
+	private static int toInt(String option, String value)
+	{
+		try
+		{
+			return Integer.parseInt(value);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+		}
+	}
+}
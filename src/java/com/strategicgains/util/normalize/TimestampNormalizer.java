@@ -0,0 +1,444 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.normalize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.strategicgains.util.date.DateAdapter;
+
+/**
+ * Rewrites one date column of a delimited text file (CSV, TSV, log lines split on spaces, etc.) from
+ * whatever the input adapter accepts to the output adapter's format, e.g. RFC 1123 dates to ISO 8601
+ * time stamps with an HttpHeaderTimestampAdapter and a TimestampAdapter.  Everything else in each line is
+ * copied byte for byte, as are fields that don't parse.
+ * <p>
+ * The file is streamed through a fixed-size buffer, cut into chunks of whole lines, and each chunk is
+ * normalized on the executor.  Chunks are written back in order, and at most maxChunksInFlight of them
+ * are waiting at any time, so memory stays bounded however large the file is (a single line longer than
+ * the chunk size grows the buffer to fit it).  Fields are parsed in place as US-ASCII bytes and formatted
+ * straight into the output chunk, with no per-line Strings.
+ * <p>
+ * A field that starts with a double quote runs to the closing quote (a doubled quote inside is part of
+ * the field), so quoted CSV dates containing the delimiter, like "Sun, 06 Nov 1994 08:49:37 GMT", are
+ * found; the quotes are kept and the date between them is rewritten.  Lines end at '\n'; a '\r' before it
+ * is kept and is not part of the last field.
+ * <p>
+ * The adapters are shared by the worker threads, so any callbacks registered on them must be
+ * thread-safe.  Counts of lines, normalized fields and unparseable fields accumulate across calls.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see NormalizeTimestamps
+ */
+public class TimestampNormalizer
+{
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	/**
+	 * Room left in the output for each formatted date, well beyond the longest standard output format.
+	 */
+	private static final int MAX_FORMATTED_LENGTH = 128;
+
+	private DateAdapter input;
+	private DateAdapter output;
+	private byte delimiter;
+	private int column;
+	private int headerLines = 0;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private int maxChunksInFlight = 2 * Runtime.getRuntime().availableProcessors();
+	private LongAdder lines = new LongAdder();
+	private LongAdder normalized = new LongAdder();
+	private LongAdder unparseable = new LongAdder();
+
+	/**
+	 * @param input parses the dates found in the column.
+	 * @param output formats the dates written back.
+	 * @param delimiter separates the fields of a line (a US-ASCII character, e.g. ',', '\t' or ' ').
+	 * @param column the zero-based index of the date field in each line.
+	 */
+	public TimestampNormalizer(DateAdapter input, DateAdapter output, char delimiter, int column)
+	{
+		if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n')
+		{
+			throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+		}
+
+		if (column < 0)
+		{
+			throw new IllegalArgumentException("Invalid column: " + column);
+		}
+
+		this.input = input;
+		this.output = output;
+		this.delimiter = (byte) delimiter;
+		this.column = column;
+	}
+
+
+	// SECTION: ACCESSING/MUTATING
+
+	/**
+	 * @param headerLines the number of lines at the start of a file to copy unchanged.
+	 */
+	public void setHeaderLines(int headerLines)
+	{
+		this.headerLines = headerLines;
+	}
+
+	/**
+	 * @param chunkSize the number of bytes read, and handed to a worker, at a time.
+	 */
+	public void setChunkSize(int chunkSize)
+	{
+		if (chunkSize < 1)
+		{
+			throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+		}
+
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * @param maxChunksInFlight the most chunks being normalized, or waiting to be written, at once.
+	 */
+	public void setMaxChunksInFlight(int maxChunksInFlight)
+	{
+		if (maxChunksInFlight < 1)
+		{
+			throw new IllegalArgumentException("Invalid chunks in flight: " + maxChunksInFlight);
+		}
+
+		this.maxChunksInFlight = maxChunksInFlight;
+	}
+
+	public long getLineCount()
+	{
+		return lines.sum();
+	}
+
+	public long getNormalizedCount()
+	{
+		return normalized.sum();
+	}
+
+	public long getUnparseableCount()
+	{
+		return unparseable.sum();
+	}
+
+
+	// SECTION: NORMALIZING
+
+	/**
+	 * Normalizes the file at in into a new file (or a truncated existing one) at out.
+	 *
+	 * @param executor normalizes the chunks (e.g. ForkJoinPool.commonPool(), or Runnable::run to use the
+	 * calling thread only).
+	 * @throws IOException if reading or writing fails.
+	 */
+	public void normalize(Path in, Path out, Executor executor)
+	throws IOException
+	{
+		try (FileChannel source = FileChannel.open(in, StandardOpenOption.READ);
+			FileChannel target = FileChannel.open(out, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			normalize(source, target, executor);
+		}
+	}
+
+	/**
+	 * Normalizes everything readable from in, writing it to out.  Neither channel is closed.
+	 *
+	 * @param executor normalizes the chunks.
+	 * @throws IOException if reading or writing fails.
+	 */
+	public void normalize(ReadableByteChannel in, WritableByteChannel out, Executor executor)
+	throws IOException
+	{
+		Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+		byte[] buffer = new byte[chunkSize];
+		int length = 0;
+		int headerToCopy = headerLines;
+		boolean isEnd = false;
+
+		while (!isEnd)
+		{
+			while (length < buffer.length && !isEnd)
+			{
+				int read = in.read(ByteBuffer.wrap(buffer, length, buffer.length - length));
+				isEnd = (read < 0);
+				length += Math.max(read, 0);
+			}
+
+			int cut = (isEnd ? length : lastIndexOf(buffer, (byte) '\n', length) + 1);
+
+			if (cut == 0 && !isEnd)
+			{
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+				continue;
+			}
+
+			int start = 0;
+
+			for (; headerToCopy > 0 && start < cut; --headerToCopy)
+			{
+				int end = indexOf(buffer, (byte) '\n', start, cut);
+				end = (end < 0 ? cut : end + 1);
+				write(out, buffer, start, end - start);
+				start = end;
+			}
+
+			if (start < cut)
+			{
+				byte[] chunk = Arrays.copyOfRange(buffer, start, cut);
+				pending.add(CompletableFuture.supplyAsync(() -> normalizeLines(chunk, 0, chunk.length), executor));
+			}
+
+			while (pending.size() >= maxChunksInFlight)
+			{
+				writeNext(out, pending);
+			}
+
+			System.arraycopy(buffer, cut, buffer, 0, length - cut);
+			length -= cut;
+		}
+
+		while (!pending.isEmpty())
+		{
+			writeNext(out, pending);
+		}
+	}
+
+	/**
+	 * Normalizes the lines in src from (inclusive) to to (exclusive).  The last line need not end with
+	 * '\n'.
+	 *
+	 * @return the normalized lines.
+	 */
+	public byte[] normalizeLines(byte[] src, int from, int to)
+	{
+		Output out = new Output(to - from + MAX_FORMATTED_LENGTH);
+		int start = from;
+
+		while (start < to)
+		{
+			int newline = indexOf(src, (byte) '\n', start, to);
+			int end = (newline < 0 ? to : newline);
+			normalizeLine(src, start, end, out);
+
+			if (newline >= 0)
+			{
+				out.write(src, newline, 1);
+			}
+
+			start = end + 1;
+		}
+
+		return out.toByteArray();
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private void normalizeLine(byte[] src, int start, int end, Output out)
+	{
+		lines.increment();
+		int lineEnd = (end > start && src[end - 1] == '\r' ? end - 1 : end);
+		int fieldStart = start;
+
+		for (int c = 0; c < column && fieldStart <= lineEnd; ++c)
+		{
+			fieldStart = fieldEnd(src, fieldStart, lineEnd) + 1;
+		}
+
+		if (fieldStart > lineEnd)
+		{
+			out.write(src, start, end - start);
+			return;
+		}
+
+		int valueStart = fieldStart;
+		int valueEnd = fieldEnd(src, fieldStart, lineEnd);
+
+		if (valueEnd > valueStart && src[valueStart] == '"')
+		{
+			++valueStart;
+			valueEnd = (src[valueEnd - 1] == '"' && valueEnd > valueStart ? valueEnd - 1 : valueEnd);
+		}
+
+		out.write(src, start, valueStart - start);
+
+		try
+		{
+			long millis = input.parseEpochMillis(src, valueStart, valueEnd - valueStart);
+			out.ensureCapacity(MAX_FORMATTED_LENGTH);
+			out.length = output.formatTo(millis, out.bytes, out.length);
+			normalized.increment();
+		}
+		catch (ParseException e)
+		{
+			out.write(src, valueStart, valueEnd - valueStart);
+			unparseable.increment();
+		}
+
+		out.write(src, valueEnd, end - valueEnd);
+	}
+
+	/**
+	 * @return the index of the delimiter ending the field that starts at start, or end.
+	 */
+	private int fieldEnd(byte[] src, int start, int end)
+	{
+		int i = start;
+
+		if (i < end && src[i] == '"')
+		{
+			for (++i; i < end; ++i)
+			{
+				if (src[i] == '"')
+				{
+					if (i + 1 < end && src[i + 1] == '"')
+					{
+						++i;
+					}
+					else
+					{
+						++i;
+						break;
+					}
+				}
+			}
+		}
+
+		while (i < end && src[i] != delimiter)
+		{
+			++i;
+		}
+
+		return i;
+	}
+
+	private static int indexOf(byte[] bytes, byte b, int from, int to)
+	{
+		for (int i = from; i < to; ++i)
+		{
+			if (bytes[i] == b)
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int lastIndexOf(byte[] bytes, byte b, int to)
+	{
+		for (int i = to - 1; i >= 0; --i)
+		{
+			if (bytes[i] == b)
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static void writeNext(WritableByteChannel out, Deque<CompletableFuture<byte[]>> pending)
+	throws IOException
+	{
+		byte[] bytes;
+
+		try
+		{
+			bytes = pending.poll().join();
+		}
+		catch (CompletionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+
+		write(out, bytes, 0, bytes.length);
+	}
+
+	private static void write(WritableByteChannel out, byte[] bytes, int offset, int length)
+	throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+
+		while (buffer.hasRemaining())
+		{
+			out.write(buffer);
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * A growable byte array, like ByteArrayOutputStream without the synchronization, whose bytes the
+	 * formatters can write into directly.
+	 */
+	private static final class Output
+	{
+		private byte[] bytes;
+		private int length;
+
+		private Output(int capacity)
+		{
+			this.bytes = new byte[capacity];
+		}
+
+		private void ensureCapacity(int count)
+		{
+			if (length + count > bytes.length)
+			{
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+			}
+		}
+
+		private void write(byte[] src, int offset, int count)
+		{
+			ensureCapacity(count);
+			System.arraycopy(src, offset, bytes, length, count);
+			length += count;
+		}
+
+		private byte[] toByteArray()
+		{
+			return Arrays.copyOf(bytes, length);
+		}
+	}
+}
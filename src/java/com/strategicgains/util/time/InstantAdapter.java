@@ -0,0 +1,69 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import java.text.ParseException;
+import java.time.Instant;
+
+import com.strategicgains.util.TextAdapter;
+import com.strategicgains.util.date.AsciiDateFormatter;
+import com.strategicgains.util.date.Iso8601TimepointFormatter;
+import com.strategicgains.util.date.Iso8601TimepointParser;
+
+/**
+ * Converts Instant to and from ISO 8601 time points without going through java.util.Date.  Input is
+ * any time point Iso8601TimepointAdapter accepts (see DateAdapterConstants.TIMESTAMP_INPUT_FORMATS,
+ * plus +/-HH:MM and +/-HH zones); output is DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT, with the
+ * fraction of a second truncated to milliseconds.
+ * <p>
+ * Time points are read by Iso8601TimepointParser and written by Iso8601TimepointFormatter.  Only years
+ * outside EpochDays.MIN_YEAR to EpochDays.MAX_YEAR go through a (strict, proleptic) DateTimeFormatter.
+ * Instances may be shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class InstantAdapter
+implements TextAdapter<Instant>
+{
+	private Iso8601TimepointParser parser = new Iso8601TimepointParser();
+	private AsciiDateFormatter formatter = new Iso8601TimepointFormatter(true);
+
+	@Override
+	public Instant parse(String value)
+	throws ParseException
+	{
+		long millis = parser.tryParse(value, 0, value.length());
+
+		if (millis != Iso8601TimepointParser.INVALID)
+		{
+			return Instant.ofEpochMilli(millis);
+		}
+
+		return TimeFormats.parseTimePoint(value, true).toInstant();
+	}
+
+	@Override
+	public String format(Instant value)
+	{
+		if (TimeFormats.isSupported(value.getEpochSecond()))
+		{
+			return formatter.format(value.toEpochMilli());
+		}
+
+		return TimeFormats.TIMESTAMP_OUTPUT.format(value);
+	}
+}
@@ -0,0 +1,71 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.strategicgains.util.TextAdapter;
+import com.strategicgains.util.date.AsciiDateFormatter;
+import com.strategicgains.util.date.EpochDays;
+import com.strategicgains.util.date.Iso8601TimepointFormatter;
+import com.strategicgains.util.date.Iso8601TimepointParser;
+
+/**
+ * Converts LocalDateTime, taken as UTC like every other date and time in DateAdapterJ, to and from ISO
+ * 8601 time points.  Input is any time point Iso8601TimepointAdapter accepts, converted to UTC, or one
+ * with no zone designator at all, taken as is.  Output is DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT,
+ * so it reads back the same with TimestampAdapter.  Instances may be shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class LocalDateTimeAdapter
+implements TextAdapter<LocalDateTime>
+{
+	private Iso8601TimepointParser parser = new Iso8601TimepointParser();
+	private AsciiDateFormatter formatter = new Iso8601TimepointFormatter(true);
+
+	@Override
+	public LocalDateTime parse(String value)
+	throws ParseException
+	{
+		long millis = parser.tryParse(value, 0, value.length());
+
+		if (millis != Iso8601TimepointParser.INVALID)
+		{
+			long second = Math.floorDiv(millis, EpochDays.MILLIS_PER_SECOND);
+			int nanos = (int) Math.floorMod(millis, EpochDays.MILLIS_PER_SECOND) * 1000000;
+			return LocalDateTime.ofEpochSecond(second, nanos, ZoneOffset.UTC);
+		}
+
+		return TimeFormats.parseTimePoint(value, false).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+	}
+
+	@Override
+	public String format(LocalDateTime value)
+	{
+		long second = value.toEpochSecond(ZoneOffset.UTC);
+
+		if (TimeFormats.isSupported(second))
+		{
+			return formatter.format(second * EpochDays.MILLIS_PER_SECOND + value.getNano() / 1000000);
+		}
+
+		return TimeFormats.TIMESTAMP_OUTPUT.format(value);
+	}
+}
@@ -0,0 +1,47 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import java.text.ParseException;
+import java.time.LocalTime;
+
+import com.strategicgains.util.TextAdapter;
+
+/**
+ * Converts LocalTime to and from the ISO 8601 times of day in DateAdapterConstants.TIME_INPUT_FORMATS
+ * (HH:mm:ss.SSS, HH:mm:ss, HHmmss, HH:mm and HHmm, tried in that order).  Output is
+ * DateAdapterConstants.TIME_OUTPUT_FORMAT.  Parsing is as strict as java.time: field widths are fixed
+ * and the whole string must match.  Instances may be shared between threads.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class LocalTimeAdapter
+implements TextAdapter<LocalTime>
+{
+	@Override
+	public LocalTime parse(String value)
+	throws ParseException
+	{
+		return TimeFormats.parse(TimeFormats.TIME, value, LocalTime::from);
+	}
+
+	@Override
+	public String format(LocalTime value)
+	{
+		return TimeFormats.TIME_OUTPUT.format(value);
+	}
+}
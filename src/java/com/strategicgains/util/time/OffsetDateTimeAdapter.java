@@ -0,0 +1,65 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import java.text.ParseException;
+import java.time.OffsetDateTime;
+
+import com.strategicgains.util.TextAdapter;
+import com.strategicgains.util.date.Iso8601TimepointParser;
+import com.strategicgains.util.date.OffsetTimepoint;
+
+/**
+ * Converts OffsetDateTime to and from ISO 8601 time points, keeping the offset the text was written
+ * with rather than normalizing to UTC.  Input is any time point Iso8601TimepointAdapter accepts (see
+ * DateAdapterConstants.TIMESTAMP_INPUT_FORMATS, plus +/-HH:MM and +/-HH zones); output is
+ * yyyy-MM-dd'T'HH:mm:ss.SSSXXX (e.g. 2010-04-07T11:52:13.123-07:00, or ...Z for UTC).  Instances may be
+ * shared between threads.
+ * <p>
+ * Time points are read, offset and all, in a single pass by Iso8601TimepointParser.  Only lenient
+ * input, years outside EpochDays.MIN_YEAR to EpochDays.MAX_YEAR and offsets beyond java.time's +/-18:00
+ * go through a (strict) DateTimeFormatter.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class OffsetDateTimeAdapter
+implements TextAdapter<OffsetDateTime>
+{
+	private static final int MAX_OFFSET_SECONDS = 18 * 60 * 60;
+
+	private Iso8601TimepointParser parser = new Iso8601TimepointParser();
+
+	@Override
+	public OffsetDateTime parse(String value)
+	throws ParseException
+	{
+		OffsetTimepoint timepoint = parser.tryParseWithOffset(value, 0, value.length());
+
+		if (timepoint != null && Math.abs(timepoint.getOffsetSeconds()) <= MAX_OFFSET_SECONDS)
+		{
+			return timepoint.toOffsetDateTime();
+		}
+
+		return TimeFormats.parseTimePoint(value, true);
+	}
+
+	@Override
+	public String format(OffsetDateTime value)
+	{
+		return TimeFormats.OFFSET_OUTPUT.format(value);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_OUTPUT_FORMAT;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+
+import com.strategicgains.util.date.EpochDays;
+
+/**
+ * The immutable DateTimeFormatters shared by the java.time adapters, and the conversions between them
+ * and ParseException.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class TimeFormats
+{
+	/**
+	 * The ISO 8601 time points accepted by Iso8601TimepointAdapter: YYYY-MM-DD, 'T', HH:MM[:SS[.sss]]
+	 * or HHMM[SS], then 'Z', +/-HH:MM, +/-HHMM or +/-HH.  The zone designator is optional here; callers
+	 * that need one check for it.
+	 */
+	static final DateTimeFormatter TIME_POINT = new DateTimeFormatterBuilder()
+		.append(DateTimeFormatter.ISO_LOCAL_DATE)
+		.appendLiteral('T')
+		.appendPattern("HH[:]mm[[:]ss[.SSS]][XXX][X]")
+		.toFormatter(Locale.US)
+		.withResolverStyle(ResolverStyle.STRICT);
+
+	static final DateTimeFormatter TIMESTAMP_OUTPUT = DateTimeFormatter.ofPattern(TIMESTAMP_OUTPUT_FORMAT, Locale.US)
+		.withZone(ZoneOffset.UTC);
+
+	static final DateTimeFormatter OFFSET_OUTPUT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", Locale.US);
+
+	/**
+	 * Each of TIME_INPUT_FORMATS, tried in order.
+	 */
+	static final DateTimeFormatter TIME = alternatives(TIME_INPUT_FORMATS);
+
+	static final DateTimeFormatter TIME_OUTPUT = DateTimeFormatter.ofPattern(TIME_OUTPUT_FORMAT, Locale.US);
+
+	private TimeFormats()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * Parses an ISO 8601 time point with TIME_POINT.
+	 *
+	 * @param isZoneRequired false to read a time point without a zone designator as UTC.
+	 * @throws ParseException if the text is not a time point.
+	 */
+	static OffsetDateTime parseTimePoint(CharSequence text, boolean isZoneRequired)
+	throws ParseException
+	{
+		TemporalAccessor parsed = parse(TIME_POINT, text);
+
+		if (parsed.isSupported(ChronoField.OFFSET_SECONDS))
+		{
+			return OffsetDateTime.from(parsed);
+		}
+
+		if (isZoneRequired)
+		{
+			throw new ParseException("Missing zone designator: \"" + text + "\"", text.length());
+		}
+
+		return LocalDateTime.from(parsed).atOffset(ZoneOffset.UTC);
+	}
+
+	/**
+	 * Parses the text with a DateTimeFormatter, reporting failures as a ParseException like the other
+	 * adapters do.
+	 */
+	static TemporalAccessor parse(DateTimeFormatter formatter, CharSequence text)
+	throws ParseException
+	{
+		try
+		{
+			return formatter.parse(text);
+		}
+		catch (DateTimeParseException e)
+		{
+			throw toParseException(e);
+		}
+	}
+
+	/**
+	 * Like parse(DateTimeFormatter, CharSequence), but also runs the query (e.g. LocalTime::from) in the
+	 * formatter, so text that matches without giving the fields the query needs (e.g. "" against TIME,
+	 * whose sections are all optional) is a ParseException too.
+	 */
+	static <T> T parse(DateTimeFormatter formatter, CharSequence text, TemporalQuery<T> query)
+	throws ParseException
+	{
+		try
+		{
+			return formatter.parse(text, query);
+		}
+		catch (DateTimeParseException e)
+		{
+			throw toParseException(e);
+		}
+	}
+
+	/**
+	 * Answers whether an instant this many seconds from the epoch can be written by the hand-written
+	 * formatters (see EpochDays.isSupported()).
+	 */
+	static boolean isSupported(long epochSecond)
+	{
+		return Math.abs(epochSecond) < Long.MAX_VALUE / EpochDays.MILLIS_PER_SECOND
+			&& EpochDays.isSupported(epochSecond * EpochDays.MILLIS_PER_SECOND);
+	}
+
+	private static ParseException toParseException(DateTimeParseException e)
+	{
+		ParseException pe = new ParseException(e.getMessage(), e.getErrorIndex());
+		pe.initCause(e);
+		return pe;
+	}
+
+	private static DateTimeFormatter alternatives(String... patterns)
+	{
+		DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+
+		for (String pattern : patterns)
+		{
+			builder.appendOptional(DateTimeFormatter.ofPattern(pattern));
+		}
+
+		return builder.toFormatter(Locale.US).withResolverStyle(ResolverStyle.STRICT);
+	}
+}
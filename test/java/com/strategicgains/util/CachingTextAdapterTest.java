@@ -0,0 +1,158 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.strategicgains.util.date.CachingDateAdapter;
+import com.strategicgains.util.date.TimestampAdapter;
+import com.strategicgains.util.localdate.LocalDateAdapter;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachingTextAdapterTest
+{
+	@Test
+	public void shouldCountHitsAndMisses()
+	throws ParseException
+	{
+		CachingTextAdapter<LocalDate> adapter = new CachingTextAdapter<>(new LocalDateAdapter(), 100);
+		LocalDate first = adapter.parse("2010-04-07");
+		LocalDate second = adapter.parse("2010-04-07");
+		adapter.parse("20100408");
+
+		assertEquals(LocalDate.of(2010, 4, 7), first);
+		assertSame(first, second);
+		assertEquals(1, adapter.getHitCount());
+		assertEquals(2, adapter.getMissCount());
+		assertEquals(2, adapter.size());
+	}
+
+	@Test
+	public void shouldCopyDates()
+	throws ParseException
+	{
+		CachingDateAdapter adapter = new CachingDateAdapter(new TimestampAdapter(), 100);
+		Date first = adapter.parse("2010-04-07T11:52:13.123Z");
+		first.setTime(0L);
+		Date second = adapter.parse("2010-04-07T11:52:13.123Z");
+
+		assertNotSame(first, second);
+		assertEquals(1270641133123L, second.getTime());
+		assertEquals(1, adapter.getHitCount());
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsed()
+	throws ParseException
+	{
+		CachingTextAdapter<LocalDate> adapter = new CachingTextAdapter<>(new LocalDateAdapter(), 16);
+		LocalDate date = LocalDate.of(2010, 1, 1);
+
+		for (int i = 0; i < 1000; ++i)
+		{
+			adapter.parse(date.plusDays(i).toString());
+		}
+
+		assertEquals(1000, adapter.getMissCount());
+		assertEquals(1000 - adapter.size(), adapter.getEvictionCount());
+		assertTrue(adapter.size() <= 16);
+		adapter.parse(date.plusDays(999).toString());
+		assertEquals(1, adapter.getHitCount());
+	}
+
+	@Test
+	public void shouldNotEvictBelowMaximumSize()
+	throws ParseException
+	{
+		for (int maximumSize : new int[] {2, 20, 127, 1000})
+		{
+			CachingTextAdapter<LocalDate> adapter = new CachingTextAdapter<>(new LocalDateAdapter(), maximumSize);
+			LocalDate date = LocalDate.of(2010, 1, 1);
+
+			for (int i = 0; i < Math.min(maximumSize, 60); ++i)
+			{
+				adapter.parse(date.plusDays(i).toString());
+			}
+
+			assertEquals(String.valueOf(maximumSize), 0, adapter.getEvictionCount());
+		}
+	}
+
+	@Test
+	public void shouldStayWithinMaximumSize()
+	throws ParseException
+	{
+		for (int maximumSize : new int[] {1, 3, 17, 33, 100})
+		{
+			CachingTextAdapter<LocalDate> adapter = new CachingTextAdapter<>(new LocalDateAdapter(), maximumSize);
+			LocalDate date = LocalDate.of(2010, 1, 1);
+
+			for (int i = 0; i < 2000; ++i)
+			{
+				adapter.parse(date.plusDays(i).toString());
+				assertTrue(maximumSize + ": " + adapter.size(), adapter.size() <= maximumSize);
+			}
+		}
+	}
+
+	@Test
+	public void shouldNotCacheFailures()
+	{
+		CachingTextAdapter<LocalDate> adapter = new CachingTextAdapter<>(new LocalDateAdapter(), 100);
+
+		for (int i = 0; i < 2; ++i)
+		{
+			try
+			{
+				adapter.parse("todd-fredrich");
+				fail("ParseException expected");
+			}
+			catch (ParseException e)
+			{
+				// expected.
+			}
+		}
+
+		assertEquals(0, adapter.size());
+		assertEquals(2, adapter.getMissCount());
+	}
+
+	@Test
+	public void shouldFormatThrough()
+	{
+		CachingTextAdapter<LocalDate> adapter = new CachingTextAdapter<>(new LocalDateAdapter(), 1);
+		assertEquals("2010-04-07", adapter.format(LocalDate.of(2010, 4, 7)));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectZeroSize()
+	{
+		new CachingTextAdapter<>(new LocalDateAdapter(), 0);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachedHttpDateFormatterTest
+{
+	private CachedHttpDateFormatter formatter = new CachedHttpDateFormatter();
+
+	@Test
+	public void shouldReuseTextWithinSecond()
+	{
+		String text = formatter.format(784111777000L);
+		assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", text);
+		assertSame(text, formatter.format(784111777999L));
+	}
+
+	@Test
+	public void shouldFormatNextSecond()
+	{
+		assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", formatter.format(784111777999L));
+		assertEquals("Sun, 06 Nov 1994 08:49:38 GMT", formatter.format(784111778000L));
+		assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", formatter.format(784111777000L));
+	}
+
+	@Test
+	public void shouldFormatBeforeEpoch()
+	{
+		assertEquals("Wed, 31 Dec 1969 23:59:59 GMT", formatter.format(-1L));
+		assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", formatter.format(0L));
+	}
+}
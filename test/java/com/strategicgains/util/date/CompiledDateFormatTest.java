@@ -0,0 +1,220 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.DATE_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CompiledDateFormatTest
+{
+	private static final String[] ZONES = {"UTC", "GMT-07:00", "GMT+05:30", "GMT+10:45", "GMT-03:00", "GMT+14:00"};
+
+	@Test
+	public void shouldNotCompileTextFields()
+	{
+		assertNull(CompiledDateFormat.compile("EEE, dd MMM yyyy HH:mm:ss z"));
+		assertNull(CompiledDateFormat.compile("yy-MM-dd"));
+		assertNull(CompiledDateFormat.compile("hh:mm a"));
+		assertNull(CompiledDateFormat.compile("yyyy-MM-dd'T"));
+		assertNull(CompiledDateFormat.compile("yyyy'1'MM"));
+	}
+
+	@Test
+	public void shouldParseAtFixedOffsets()
+	{
+		CompiledDateFormat format = CompiledDateFormat.compile("yyyyMMdd");
+		assertEquals(1270598400000L, format.tryParse("20100407", 0, 8));
+		assertEquals(1270598400000L, format.tryParse("x20100407x", 1, 9));
+		assertEquals(CompiledDateFormat.INVALID, format.tryParse("2010047", 0, 7));
+		assertEquals(CompiledDateFormat.INVALID, format.tryParse("20100230", 0, 8));
+	}
+
+	@Test
+	public void shouldDefaultMissingFields()
+	{
+		assertEquals(42780000L, CompiledDateFormat.compile("HH:mm").tryParse("11:53", 0, 5));
+	}
+
+	@Test
+	public void shouldMatchSimpleDateFormat()
+	throws ParseException
+	{
+		List<String> patterns = new ArrayList<>();
+		patterns.addAll(Arrays.asList(TIMESTAMP_INPUT_FORMATS));
+		patterns.addAll(Arrays.asList(DATE_INPUT_FORMATS));
+		patterns.addAll(Arrays.asList("M/d/yyyy", "HH:mm", "yyyy-MM-dd HH:mm:ss.S", "yyyy.MM.dd'T'HH:mm:ssXXX",
+			"yyyyMMddHHmmssSSS", "dd/MM/yyyy H:m X", "yyyy-MM-dd'T'HH:mm:ss.SSSZ"));
+		Random random = new Random(42L);
+
+		for (String pattern : patterns)
+		{
+			CompiledDateFormat compiled = CompiledDateFormat.compile(pattern);
+
+			if (pattern.startsWith("yyMMdd"))
+			{
+				assertNull(compiled);
+				continue;
+			}
+
+			assertNotNull(pattern, compiled);
+			SimpleDateFormat utc = format(pattern, "UTC");
+
+			for (int i = 0; i < 2000; ++i)
+			{
+				long millis = -12000000000000L + (long) (random.nextDouble() * 260000000000000L);
+				assertEquals(pattern, utc.format(new Date(millis)), compiled.format(millis));
+
+				String text = format(pattern, ZONES[random.nextInt(ZONES.length)]).format(new Date(millis));
+				long parsed = compiled.tryParse(text, 0, text.length());
+				assertEquals(text, utc.parse(text).getTime(), parsed);
+
+				char[] mutated = text.toCharArray();
+				mutated[random.nextInt(mutated.length)] = "0123456789+-:TZ ."
+					.charAt(random.nextInt(17));
+				String mutation = new String(mutated);
+				parsed = compiled.tryParse(mutation, 0, mutation.length());
+
+				if (parsed != CompiledDateFormat.INVALID)
+				{
+					ParsePosition position = new ParsePosition(0);
+					Date expected = utc.parse(mutation, position);
+					assertNotNull(mutation, expected);
+					assertEquals(mutation, expected.getTime(), parsed);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldSpecializeFixedWidthPatterns()
+	{
+		assertTrue(CompiledDateFormat.compile("yyyyMMdd").isSpecialized());
+		assertTrue(CompiledDateFormat.compile("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").isSpecialized());
+		assertFalse(CompiledDateFormat.compile("M/d/yyyy").isSpecialized());
+		assertFalse(CompiledDateFormat.compile("HH:mmX ss").isSpecialized());
+		assertFalse(CompiledDateFormat.compile("yyyyMMdd", false).isSpecialized());
+		assertFalse(CompiledDateFormat.compile("yyyy-MM-dd (dd)").isSpecialized());
+		assertEquals(CompiledDateFormat.INVALID, CompiledDateFormat.compile("yyyy-MM-dd (dd)").tryParse("2010-04-xx (07)", 0, 15));
+	}
+
+	@Test
+	public void shouldParseAsInterpreted()
+	{
+		String[] patterns = {"yyyyMMdd", "yyyy-MM-dd", "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", "yyyy-MM-dd'T'HH:mm:ssXXX",
+			"yyyy-MM-dd'T'HHmmX", "yyyyMMddHHmmssSSSS", "dd.MM.yyyy HH:mm Z", "yyyy-MM-dd'T'HH:mmXX"};
+		Random random = new Random(7L);
+
+		for (String pattern : patterns)
+		{
+			CompiledDateFormat specialized = CompiledDateFormat.compile(pattern);
+			CompiledDateFormat interpreted = CompiledDateFormat.compile(pattern, false);
+			assertTrue(pattern, specialized.isSpecialized());
+
+			for (int i = 0; i < 5000; ++i)
+			{
+				long millis = -12000000000000L + (long) (random.nextDouble() * 260000000000000L);
+				String text = format(pattern, ZONES[random.nextInt(ZONES.length)]).format(new Date(millis));
+				char[] chars = text.toCharArray();
+
+				for (int j = random.nextInt(3); j > 0; --j)
+				{
+					chars[random.nextInt(chars.length)] = "0123456789+-:TZ .".charAt(random.nextInt(17));
+				}
+
+				String mutation = (random.nextInt(8) == 0 ? text.substring(0, random.nextInt(text.length())) : new String(chars));
+				assertEquals(text, interpreted.tryParse(text, 0, text.length()), specialized.tryParse(text, 0, text.length()));
+				assertEquals(mutation, interpreted.tryParse(mutation, 0, mutation.length()),
+					specialized.tryParse(mutation, 0, mutation.length()));
+			}
+		}
+	}
+
+	@Test
+	public void shouldBeUsedByDateFormatProcessor()
+	throws ParseException
+	{
+		DateFormatProcessor processor = new DateFormatProcessor("yyyyMMddHHmmss", "yyyyMMddHHmmss", "dd.MM.yyyy");
+		assertEquals("20100407115213", processor.formatEpochMillis(1270641133123L));
+		assertEquals(1270641133000L, processor.parseEpochMillis("20100407115213"));
+		assertEquals(1270598400000L, processor.parseEpochMillis("07.04.2010"));
+		assertEquals(1270598400000L, processor.parseEpochMillis("7.4.2010"));
+	}
+
+	@Test
+	public void shouldBeUsedUnlessTextIsRewritten()
+	throws ParseException
+	{
+		List<String> fallbacks = new ArrayList<>();
+		DateFormatProcessor passThrough = new DateFormatProcessor("yyyyMMddHHmmss", "yyyyMMddHHmmss")
+		{
+			@Override
+			protected String beforeFallback(String text)
+			{
+				fallbacks.add(text);
+				return super.beforeFallback(text);
+			}
+		};
+		DateFormatProcessor rewriting = new DateFormatProcessor("yyyyMMddHHmmss", "yyyyMMddHHmmss")
+		{
+			@Override
+			protected String beforeFallback(String text)
+			{
+				fallbacks.add(text);
+				return text.trim();
+			}
+
+			@Override
+			protected boolean isRawTextParsed()
+			{
+				return false;
+			}
+		};
+
+		assertEquals(1270641133000L, passThrough.parseEpochMillis("20100407115213"));
+		assertEquals(0, fallbacks.size());
+		assertEquals(1270641133000L, rewriting.parseEpochMillis("20100407115213"));
+		assertEquals(1, fallbacks.size());
+	}
+
+	private static SimpleDateFormat format(String pattern, String zone)
+	{
+		SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+		format.setTimeZone(TimeZone.getTimeZone(zone));
+		return format;
+	}
+}
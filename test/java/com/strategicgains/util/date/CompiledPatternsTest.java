@@ -0,0 +1,87 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CompiledPatternsTest
+{
+	@Test
+	public void shouldShareSamePatterns()
+	{
+		assertSame(CompiledPatterns.of(TIMESTAMP_OUTPUT_FORMAT, Locale.US, TIMESTAMP_INPUT_FORMATS),
+			CompiledPatterns.of(TIMESTAMP_OUTPUT_FORMAT, Locale.US, TIMESTAMP_INPUT_FORMATS.clone()));
+		assertNotSame(CompiledPatterns.of(TIMESTAMP_OUTPUT_FORMAT, Locale.US, TIMESTAMP_INPUT_FORMATS),
+			CompiledPatterns.of(TIMESTAMP_OUTPUT_FORMAT, Locale.US, new String[] {TIMESTAMP_OUTPUT_FORMAT}));
+	}
+
+	@Test
+	public void shouldNotShareAcrossOutputLocales()
+	{
+		assertNotSame(CompiledPatterns.of(TIMESTAMP_OUTPUT_FORMAT, Locale.US, TIMESTAMP_INPUT_FORMATS),
+			CompiledPatterns.of(TIMESTAMP_OUTPUT_FORMAT, Locale.GERMANY, TIMESTAMP_INPUT_FORMATS));
+	}
+
+	@Test
+	public void shouldNotShareAcrossLocales()
+	{
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		CompiledPatterns patterns = CompiledPatterns.of("EEE dd MMM yyyy", Locale.US, new String[] {"EEE dd MMM yyyy"});
+
+		try
+		{
+			Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+			CompiledPatterns german = CompiledPatterns.of("EEE dd MMM yyyy", Locale.US, new String[] {"EEE dd MMM yyyy"});
+			assertNotSame(patterns, german);
+			SimpleDateFormat expected = new SimpleDateFormat("EEE dd MMM yyyy");
+			expected.setTimeZone(TimeZone.getTimeZone("UTC"));
+			assertEquals(expected.format(new Date(1270641133123L)),
+				new DateFormatProcessor("EEE dd MMM yyyy", "EEE dd MMM yyyy").formatEpochMillis(1270641133123L));
+		}
+		finally
+		{
+			Locale.setDefault(Locale.Category.FORMAT, locale);
+		}
+	}
+
+	@Test
+	public void shouldParseIndependentlyWhenShared()
+	throws ParseException
+	{
+		DateFormatProcessor first = new DateFormatProcessor(TIMESTAMP_OUTPUT_FORMAT, TIMESTAMP_INPUT_FORMATS);
+		DateFormatProcessor second = new DateFormatProcessor(TIMESTAMP_OUTPUT_FORMAT, TIMESTAMP_INPUT_FORMATS);
+		second.setAdaptive(true);
+		assertEquals(1270641133123L, first.parseEpochMillis("2010-04-07T11:52:13.123Z"));
+		assertEquals(1270641133000L, second.parseEpochMillis("2010-04-07T04:52:13-0700"));
+		assertEquals(false, first.isAdaptive());
+	}
+}
@@ -19,11 +19,22 @@ package com.strategicgains.util.date;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.strategicgains.util.AdapterCallback;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -109,6 +120,45 @@ public class DateAdapterTest
 		assertTimePortionEmpty();
 	}
 
+	@Test
+	public void shouldParseEpochMillis()
+	throws ParseException
+	{
+		assertEquals(1270598400000L, adapter.parseEpochMillis(new StringBuilder("2010-04-07")));
+	}
+
+	@Test
+	public void shouldFormatEpochMillis()
+	{
+		assertEquals("2010-04-07", adapter.formatEpochMillis(1270641133123L));
+	}
+
+	@Test
+	public void shouldApplyCallbacksToEpochMillis()
+	throws ParseException
+	{
+		DateAdapter callbacks = new DateAdapter();
+		callbacks.setPreParseCallback(new AdapterCallback<String>()
+		{
+			@Override
+			public String process(String string)
+			{
+				return string.trim();
+			}
+		});
+		callbacks.setPostFormatCallback(new AdapterCallback<String>()
+		{
+			@Override
+			public String process(String string)
+			{
+				return "[" + string + "]";
+			}
+		});
+
+		assertEquals(1270598400000L, callbacks.parseEpochMillis(" 2010-04-07 "));
+		assertEquals("[2010-04-07]", callbacks.formatEpochMillis(1270641133123L));
+	}
+
 	private void assertTimePortionEmpty()
 	{
 		assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
@@ -116,4 +166,73 @@ public class DateAdapterTest
 		assertEquals(0, calendar.get(Calendar.SECOND));
 		assertEquals(0, calendar.get(Calendar.MILLISECOND));
 	}
+
+	@Test
+	public void shouldParseAllWithCallbacks()
+	{
+		DateAdapter callbackAdapter = new DateAdapter();
+		callbackAdapter.setPreParseCallback(s -> s.trim());
+		String[] rows = {" 2010-04-07 ", null, "2010-04-08"};
+		long[] out = new long[3];
+		BitSet failures = callbackAdapter.parseAll(rows, out);
+
+		assertEquals(1, failures.cardinality());
+		assertEquals(1270598400000L, out[0]);
+		assertEquals(1270684800000L, out[2]);
+
+		long[] linkedOut = new long[3];
+		assertEquals(failures, callbackAdapter.parseAll(new LinkedList<>(Arrays.asList(rows)), linkedOut));
+		assertTrue(Arrays.equals(out, linkedOut));
+	}
+
+	@Test
+	public void shouldParseAllInParallelWithCallbacks()
+	{
+		DateAdapter callbackAdapter = new DateAdapter();
+		callbackAdapter.setPreParseCallback(s -> s.trim());
+		List<String> rows = new ArrayList<>();
+
+		for (int i = 0; i < 10000; ++i)
+		{
+			rows.add(i == 9000 ? "nope" : " 2010-04-07 ");
+		}
+
+		long[] out = new long[rows.size()];
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try
+		{
+			BitSet failures = callbackAdapter.parseAll(rows, out, executor);
+			assertEquals(1, failures.cardinality());
+			assertEquals(9000, failures.nextSetBit(0));
+			assertEquals(1270598400000L, out[9999]);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldRoundTripUnderNonGregorianLocale()
+	throws ParseException
+	{
+		Locale locale = Locale.getDefault();
+
+		try
+		{
+			for (String tag : new String[] {"th-TH", "ja-JP-u-ca-japanese"})
+			{
+				Locale.setDefault(Locale.forLanguageTag(tag));
+				DateAdapter localized = new DateAdapter();
+				Date date = new Date(1778716800000L);
+				assertEquals(tag, date, localized.parse(localized.format(date)));
+				assertEquals(tag, 1778716800000L, localized.parseEpochMillis(localized.format(date)));
+			}
+		}
+		finally
+		{
+			Locale.setDefault(locale);
+		}
+	}
 }
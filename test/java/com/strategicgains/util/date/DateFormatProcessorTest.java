@@ -19,12 +19,23 @@ package com.strategicgains.util.date;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -113,6 +124,83 @@ public class DateFormatProcessorTest
 		}
 	}
 
+	@Test
+	public void shouldParseInsideBuffer()
+	throws ParseException
+	{
+		StringBuilder line = new StringBuilder("42,04/07/2010,2010-04-07T11:52:17GMT-07:00,x");
+		assertEquals(1270598400000L, dfp.parse(line, 3, 10).getTime());
+		assertEquals(1270666337000L, dfp.parseEpochMillis(line, 14, 28));
+	}
+
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void shouldRejectRangeOutsideBuffer()
+	throws ParseException
+	{
+		dfp.parse("2010-04-07", 2, 10);
+	}
+
+	@Test
+	public void shouldReportFurthestFormat()
+	{
+		try
+		{
+			dfp.parse("04/07");
+			fail("ParseException not thrown on incomplete date.");
+		}
+		catch (ParseException e)
+		{
+			assertEquals(5, e.getErrorOffset());
+			assertTrue(e.getMessage().startsWith("Unparseable date: \"04/07\""));
+			assertTrue(e.getMessage().contains("MM/dd/yyyy"));
+		}
+	}
+
+	@Test
+	public void shouldParseAndFormatConcurrently()
+	throws Exception
+	{
+		final String[] inputs = {"2010-04-07T11:52:17GMT-07:00", "2010-04-07", "04/07/2010"};
+		final String[] outputs = {"2010-04-07T18:52:17Z", "2010-04-07T00:00:00Z", "2010-04-07T00:00:00Z"};
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+
+		try
+		{
+			for (int t = 0; t < 16; ++t)
+			{
+				results.add(executor.submit(new Callable<Boolean>()
+				{
+					@Override
+					public Boolean call()
+					throws Exception
+					{
+						for (int i = 0; i < 1000; ++i)
+						{
+							int j = i % inputs.length;
+
+							if (!outputs[j].equals(dfp.format(dfp.parse(inputs[j]))))
+							{
+								return false;
+							}
+						}
+
+						return true;
+					}
+				}));
+			}
+
+			for (Future<Boolean> result : results)
+			{
+				assertEquals(Boolean.TRUE, result.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
 	private void assertTimePortionEmpty()
 	{
 		assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
@@ -120,4 +208,164 @@ public class DateFormatProcessorTest
 		assertEquals(0, calendar.get(Calendar.SECOND));
 		assertEquals(0, calendar.get(Calendar.MILLISECOND));
 	}
+
+	@Test
+	public void shouldParseAllLikeParse()
+	throws ParseException
+	{
+		String[] rows = {"2010-04-07T11:52:13Z", "2010-04-07", "not a date", null, "04/07/2010", "2010-04-07T11:52:13-0700", "2011-05-08"};
+		long[] out = new long[rows.length];
+		BitSet failures = dfp.parseAll(rows, out);
+
+		assertEquals(2, failures.cardinality());
+		assertTrue(failures.get(2));
+		assertTrue(failures.get(3));
+
+		for (int i = failures.nextClearBit(0); i < rows.length; i = failures.nextClearBit(i + 1))
+		{
+			assertEquals(rows[i], dfp.parse(rows[i]).getTime(), out[i]);
+		}
+	}
+
+	@Test
+	public void shouldLeaveFailedRowsUnchanged()
+	{
+		long[] out = {42L, 42L};
+		dfp.parseAll(Arrays.asList("2010-04-07", "nope"), out);
+		assertEquals(42L, out[1]);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectShortOutput()
+	{
+		dfp.parseAll(new String[] {"2010-04-07", "2010-04-08"}, new long[1]);
+	}
+
+	@Test
+	public void shouldParseAllInParallel()
+	throws Exception
+	{
+		String[] samples = {"2010-04-07T11:52:13Z", "2010-04-07", "04/07/2010", "2010-04-07T11:52:13-0700", "bogus"};
+		List<String> rows = new ArrayList<>();
+
+		for (int i = 0; i < 50000; ++i)
+		{
+			rows.add(samples[i % samples.length]);
+		}
+
+		long[] sequential = new long[rows.size()];
+		long[] parallel = new long[rows.size()];
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try
+		{
+			BitSet failures = dfp.parseAll(rows, parallel, pool);
+			assertEquals(dfp.parseAll(rows, sequential), failures);
+			assertEquals(10000, failures.cardinality());
+			assertTrue(failures.get(49999));
+			assertTrue(Arrays.equals(sequential, parallel));
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldParseAllFromLinkedList()
+	{
+		String[] samples = {"2010-04-07T11:52:13Z", "2010-04-07", "04/07/2010", "bogus"};
+		List<String> rows = new LinkedList<>();
+
+		for (int i = 0; i < 20000; ++i)
+		{
+			rows.add(samples[i % samples.length]);
+		}
+
+		long[] expected = new long[rows.size()];
+		long[] sequential = new long[rows.size()];
+		long[] parallel = new long[rows.size()];
+		BitSet failures = dfp.parseAll(new ArrayList<>(rows), expected);
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try
+		{
+			assertEquals(failures, dfp.parseAll(rows, sequential));
+			assertEquals(failures, dfp.parseAll(rows, parallel, pool));
+			assertTrue(Arrays.equals(expected, sequential));
+			assertTrue(Arrays.equals(expected, parallel));
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldFormatAllInParallel()
+	{
+		long[] millis = new long[20000];
+
+		for (int i = 0; i < millis.length; ++i)
+		{
+			millis[i] = 1270641133000L + i * 86400000L;
+		}
+
+		String[] sequential = new String[millis.length];
+		String[] parallel = new String[millis.length];
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try
+		{
+			dfp.formatAll(millis, sequential);
+			dfp.formatAll(millis, parallel, pool);
+			assertTrue(Arrays.equals(sequential, parallel));
+			assertEquals("2010-04-07T11:52:13Z", parallel[0]);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldKeepPriorityOrderWhenAdaptive()
+	throws ParseException
+	{
+		String[] formats = {"yyyy-MM-dd HH:mm", "EEE, dd MMM yyyy HH:mm:ss z", "EEE MMM d HH:mm:ss yyyy", "yyyy-MM-dd"};
+		DateFormatProcessor strict = new DateFormatProcessor(formats[0], formats);
+		DateFormatProcessor adaptive = new DateFormatProcessor(formats[0], formats);
+		adaptive.setAdaptive(true);
+		assertTrue(adaptive.isAdaptive());
+
+		// Train the adaptive processor so the lowest-priority format wins most often.
+		for (int i = 0; i < 5000; ++i)
+		{
+			assertEquals(strict.parse("2010-4-" + (i % 28 + 1)), adaptive.parse("2010-4-" + (i % 28 + 1)));
+		}
+
+		String[] inputs = {"2010-4-7 1:05", "2010-4-7", "Wed, 07 Apr 2010 11:52:13 GMT", "Wed Apr 7 11:52:13 2010", "2010-4-17 11:52"};
+
+		for (String input : inputs)
+		{
+			assertEquals(input, strict.parse(input), adaptive.parse(input));
+		}
+
+		long[] wins = adaptive.getInputFormatWins();
+		assertEquals(2, wins[0]);
+		assertEquals(5001, wins[3]);
+	}
+
+	@Test
+	public void shouldStopCountingWhenNotAdaptive()
+	throws ParseException
+	{
+		dfp.setAdaptive(true);
+		dfp.parse("4/7/2010");
+		assertEquals(1, dfp.getInputFormatWins()[2]);
+
+		dfp.setAdaptive(false);
+		dfp.parse("4/7/2010");
+		assertEquals(0, dfp.getInputFormatWins()[2]);
+	}
 }
@@ -0,0 +1,164 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.DATE_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class FormatDispatcherTest
+{
+	private static final String[] ZONES = {"UTC", "GMT-07:00", "GMT+05:30", "GMT+10:45"};
+
+	@Test
+	public void shouldDispatchToMatchingFormat()
+	{
+		FormatDispatcher dispatcher = FormatDispatcher.compile(formats(TIMESTAMP_INPUT_FORMATS));
+		assertEquals(0, dispatcher.lookup("2010-04-07T11:52:13.123Z"));
+		assertEquals(1, dispatcher.lookup("2010-04-07T11:52:13.123-0700"));
+		assertEquals(6, dispatcher.lookup("2010-04-07T11:52Z"));
+		assertEquals(9, dispatcher.lookup("2010-04-07T1152+0700"));
+	}
+
+	@Test
+	public void shouldKeepPriorityOrder()
+	{
+		FormatDispatcher dispatcher = FormatDispatcher.compile(formats(DATE_INPUT_FORMATS));
+		assertEquals(0, dispatcher.lookup("2010-04-07"));
+		assertEquals(1, dispatcher.lookup("20100407"));
+		assertEquals(2, dispatcher.lookup("4/7/2010"));
+		assertEquals(3, dispatcher.lookup("100407"));
+	}
+
+	@Test
+	public void shouldNotKnowOtherShapes()
+	{
+		FormatDispatcher dispatcher = FormatDispatcher.compile(formats(DATE_INPUT_FORMATS));
+		assertEquals(-1, dispatcher.lookup("2010-04-07 "));
+		assertEquals(-1, dispatcher.lookup("2010.04.07"));
+		assertEquals(-1, dispatcher.lookup(""));
+	}
+
+	@Test
+	public void shouldNotCompileDigitLiterals()
+	{
+		assertNull(FormatDispatcher.compile(formats("yyyy-MM-dd", "yyyy'0'MMdd")));
+	}
+
+	@Test
+	public void shouldMatchSequentialScan()
+	throws ParseException
+	{
+		Random random = new Random(2009L);
+
+		for (String[] patterns : Arrays.asList(DATE_INPUT_FORMATS, TIMESTAMP_INPUT_FORMATS, RFC1123_INPUT_FORMATS))
+		{
+			DateFormatProcessor processor = new DateFormatProcessor(patterns[0], patterns);
+			DateFormat[] formats = formats(patterns);
+
+			for (int i = 0; i < 3000; ++i)
+			{
+				SimpleDateFormat format = new SimpleDateFormat(patterns[i % patterns.length]);
+				format.setTimeZone(TimeZone.getTimeZone(ZONES[i % ZONES.length]));
+				String text = mutate(format.format(new Date((long) (random.nextDouble() * 4102444800000L))), random);
+				Date expected = scan(formats, text);
+
+				try
+				{
+					assertEquals(text, expected, processor.parse(text));
+				}
+				catch (ParseException e)
+				{
+					assertNull(text, expected);
+				}
+			}
+		}
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	private static DateFormat[] formats(String... patterns)
+	{
+		DateFormat[] formats = new DateFormat[patterns.length];
+
+		for (int i = 0; i < patterns.length; ++i)
+		{
+			formats[i] = new SimpleDateFormat(patterns[i]);
+			formats[i].setTimeZone(UNIVERSAL_TIME_ZONE);
+		}
+
+		return formats;
+	}
+
+	/**
+	 * The documented semantics: the first format, in priority order, that parses the text.
+	 */
+	private static Date scan(DateFormat[] formats, String text)
+	{
+		for (DateFormat format : formats)
+		{
+			ParsePosition position = new ParsePosition(0);
+			Date date = format.parse(text, position);
+
+			if (position.getIndex() != 0)
+			{
+				return date;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Leaves most strings alone, and otherwise changes, drops or inserts a character.
+	 */
+	private static String mutate(String text, Random random)
+	{
+		int i = random.nextInt(text.length());
+		String replacement = String.valueOf("0169:-+TZ ".charAt(random.nextInt(10)));
+
+		switch (random.nextInt(6))
+		{
+			case 0:
+				return text.substring(0, i) + replacement + text.substring(i + 1);
+			case 1:
+				return text.substring(0, i) + text.substring(i + 1);
+			case 2:
+				return text.substring(0, i) + replacement + text.substring(i);
+			default:
+				return text;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.RFC1123_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class HttpDateFormatterTest
+{
+	private HttpDateFormatter formatter = new HttpDateFormatter();
+
+	@Test
+	public void shouldFormatRfc1123()
+	{
+		assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", formatter.format(784111777123L));
+	}
+
+	@Test
+	public void shouldMatchSimpleDateFormat()
+	{
+		SimpleDateFormat format = new SimpleDateFormat(RFC1123_OUTPUT_FORMAT, Locale.US);
+		format.setTimeZone(UNIVERSAL_TIME_ZONE);
+		Random random = new Random(1123L);
+
+		for (int i = 0; i < 5000; ++i)
+		{
+			long millis = -12219292800000L + (long) (random.nextDouble() * 265000000000000L);
+			assertEquals(format.format(new Date(millis)), formatter.format(millis));
+		}
+	}
+
+	@Test
+	public void shouldNotSupportJulianDates()
+	{
+		assertFalse(formatter.isSupported(-12219292800001L));
+	}
+}
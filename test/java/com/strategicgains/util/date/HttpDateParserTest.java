@@ -0,0 +1,115 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class HttpDateParserTest
+{
+	private static final String[] FORMATS =
+	{
+		"EEE, dd MMM yyyy HH:mm:ss 'GMT'",
+		"EEEE, dd-MMM-yy HH:mm:ss 'GMT'",
+		"EEE MMM d HH:mm:ss yyyy"
+	};
+
+	private HttpDateParser parser = new HttpDateParser();
+
+	@Test
+	public void shouldParseRfc1123()
+	throws ParseException
+	{
+		assertEquals(784111777000L, parser.parse("Sun, 06 Nov 1994 08:49:37 GMT"));
+	}
+
+	@Test
+	public void shouldParseRfc850()
+	throws ParseException
+	{
+		assertEquals(784111777000L, parser.parse("Sunday, 06-Nov-94 08:49:37 GMT"));
+	}
+
+	@Test
+	public void shouldParseAsctime()
+	throws ParseException
+	{
+		assertEquals(784111777000L, parser.parse("Sun Nov  6 08:49:37 1994"));
+		assertEquals(784975777000L, parser.parse("Wed Nov 16 08:49:37 1994"));
+	}
+
+	@Test
+	public void shouldMatchSimpleDateFormat()
+	throws ParseException
+	{
+		Random random = new Random(1123L);
+		SimpleDateFormat[] formats = new SimpleDateFormat[FORMATS.length];
+		SimpleDateFormat[] inputs = new SimpleDateFormat[FORMATS.length];
+
+		for (int i = 0; i < FORMATS.length; ++i)
+		{
+			formats[i] = new SimpleDateFormat(FORMATS[i], Locale.US);
+			formats[i].setTimeZone(UNIVERSAL_TIME_ZONE);
+			inputs[i] = new SimpleDateFormat(DateAdapterConstants.RFC1123_INPUT_FORMATS[i], Locale.US);
+			inputs[i].setTimeZone(UNIVERSAL_TIME_ZONE);
+		}
+
+		for (int i = 0; i < 3000; ++i)
+		{
+			int f = i % FORMATS.length;
+			long millis = (random.nextLong() >>> 24) % 1900000000000L * (f == 1 ? 1 : 4) / 1000 * 1000;
+			String text = formats[f].format(new Date(millis));
+			long expected = inputs[f].parse(text).getTime();
+			long actual = parser.tryParse(text, 0, text.length());
+			assertEquals(text, (actual == HttpDateParser.INVALID ? HttpDateParser.INVALID : expected), actual);
+		}
+	}
+
+	@Test
+	public void shouldMissLenientForms()
+	{
+		String[] lenient =
+		{
+			"sun, 06 nov 1994 08:49:37 gmt",
+			"Sun, 06 Nov 1994 08:49:37 PST",
+			"Sun, 6 Nov 1994 08:49:37 GMT",
+			"Sun, 31 Nov 1994 08:49:37 GMT",
+			"Sun, 06 Nov 1994 24:49:37 GMT",
+			"Sun, 06 Foo 1994 08:49:37 GMT",
+			"Sunny, 06-Nov-94 08:49:37 GMT",
+			"Sun Nov 6 08:49:37 1994",
+			"2010-04-07T11:52:13.123Z",
+			""
+		};
+
+		for (String text : lenient)
+		{
+			assertEquals(text, HttpDateParser.INVALID, parser.tryParse(text, 0, text.length()));
+		}
+	}
+}
@@ -17,9 +17,14 @@ package com.strategicgains.util.date;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 import java.util.TimeZone;
 
 import org.junit.Before;
@@ -48,6 +53,25 @@ public class HttpHeaderTimestampAdapterTest
 		assertEquals("Wed, 07 Apr 2010 13:30:37 GMT", adapter.format(calendar.getTime()));
 	}
 
+	@Test
+	public void shouldOutputEnglishUnderOtherLocale()
+	{
+		Locale locale = Locale.getDefault();
+
+		try
+		{
+			Locale.setDefault(Locale.GERMANY);
+			DateAdapter adapter = new HttpHeaderTimestampAdapter();
+			assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", adapter.format(new Date(784111777000L)));
+			// Outside the formatter's years, the output SimpleDateFormat is English too.
+			assertEquals("Mon, 23 Dec 1499 00:00:00 GMT", adapter.format(new Date(-14831769600000L)));
+		}
+		finally
+		{
+			Locale.setDefault(locale);
+		}
+	}
+
 	@Test
 	public void shouldParse_ZeroTime()
 	throws ParseException
@@ -177,4 +201,80 @@ public class HttpHeaderTimestampAdapterTest
 		assertEquals(0, calendar.get(Calendar.SECOND));
 		assertEquals(0, calendar.get(Calendar.MILLISECOND));
 	}
+
+	@Test
+	public void shouldParseEpochMillis()
+	throws ParseException
+	{
+		assertEquals(784111777000L, adapter.parseEpochMillis("Sun, 06 Nov 1994 08:49:37 GMT"));
+		assertEquals(1270641133123L, adapter.parseEpochMillis("2010-04-07T11:52:13.123Z"));
+	}
+
+	@Test
+	public void shouldFormatEpochMillis()
+	{
+		assertEquals("Wed, 07 Apr 2010 11:52:13 GMT", adapter.formatEpochMillis(1270641133123L));
+	}
+
+	@Test
+	public void shouldParseInsideBuffer()
+	throws ParseException
+	{
+		StringBuilder header = new StringBuilder("If-Modified-Since: Sun, 06 Nov 1994 08:49:37 GMT\r\n");
+		assertEquals(784111777000L, adapter.parse(header, 19, 29).getTime());
+	}
+
+	@Test
+	public void shouldParseBuffer()
+	throws ParseException
+	{
+		ByteBuffer buffer = ByteBuffer.wrap("Date: Sun, 06 Nov 1994 08:49:37 GMT\r\n".getBytes(StandardCharsets.US_ASCII));
+		assertEquals(784111777000L, adapter.parse(buffer, 6, 29).getTime());
+		assertEquals(784111777000L, adapter.parseEpochMillis(buffer.asReadOnlyBuffer(), 6, 29));
+	}
+
+	@Test
+	public void shouldFormatToAppendable()
+	throws IOException
+	{
+		StringBuilder header = adapter.formatTo(784111777123L, new StringBuilder("Date: "));
+		assertEquals("Date: Sun, 06 Nov 1994 08:49:37 GMT", header.toString());
+	}
+
+	@Test
+	public void shouldFormatToBuffer()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		int end = adapter.formatTo(784111777123L, buffer, 6);
+		assertEquals(35, end);
+		assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", new String(buffer.array(), 6, 29, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void shouldParseAllMixedHttpDates()
+	throws ParseException
+	{
+		String[] rows =
+		{
+			"Sun, 06 Nov 1994 08:49:37 GMT",
+			"Sunday, 06-Nov-94 08:49:37 GMT",
+			"Sun Nov  6 08:49:37 1994",
+			"Mon Nov  7 08:49:37 1994",
+			"Sun Nov 6 08:49:37 1994",
+			"Mon Nov 7 08:49:37 1994",
+			"Mon Nov 7 08:49:37 nope",
+			"2010-04-07T11:52:13.123Z",
+			"2010-04-07"
+		};
+		long[] out = new long[rows.length];
+		BitSet failures = adapter.parseAll(rows, out);
+
+		assertEquals(1, failures.cardinality());
+		assertTrue(failures.get(6));
+
+		for (int i = failures.nextClearBit(0); i < rows.length; i = failures.nextClearBit(i + 1))
+		{
+			assertEquals(rows[i], adapter.parse(rows[i]).getTime(), out[i]);
+		}
+	}
 }
@@ -0,0 +1,49 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601DateParserTest
+{
+	private Iso8601DateParser parser = new Iso8601DateParser();
+
+	@Test
+	public void shouldParseDashedAndBasicForms()
+	{
+		assertEquals(14706L, parser.tryParse("2010-04-07", 0, 10));
+		assertEquals(14706L, parser.tryParse("20100407", 0, 8));
+		assertEquals(11016L, parser.tryParse("x2000-02-29x", 1, 11));
+		assertEquals(-1L, parser.tryParse("19691231", 0, 8));
+	}
+
+	@Test
+	public void shouldMissOtherForms()
+	{
+		String[] others = {"2010-4-07", "2010-02-30", "2010/04/07", "04/07/2010", "100407", "1582-01-01", "2010-04-07T", "2010040a", ""};
+
+		for (String text : others)
+		{
+			assertEquals(text, Iso8601DateParser.INVALID, parser.tryParse(text, 0, text.length()));
+		}
+	}
+}
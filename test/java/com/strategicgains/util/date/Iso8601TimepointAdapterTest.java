@@ -20,9 +20,14 @@ package com.strategicgains.util.date;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 import java.util.TimeZone;
 
 import org.junit.Before;
@@ -433,4 +438,123 @@ public class Iso8601TimepointAdapterTest
 		assertEquals(0, calendar.get(Calendar.SECOND));
 		assertEquals(0, calendar.get(Calendar.MILLISECOND));
 	}
+
+	@Test
+	public void shouldParseEpochMillis()
+	throws ParseException
+	{
+		assertEquals(1270666333123L, adapter.parseEpochMillis("2010-04-07T11:52:13.123-07:00"));
+		assertEquals(1270641133005L, adapter.parseEpochMillis("2010-04-07T11:52:13.5Z"));
+	}
+
+	@Test
+	public void shouldFormatEpochMillis()
+	{
+		assertEquals("2010-04-07T11:52:13Z", adapter.formatEpochMillis(1270641133123L));
+	}
+
+	@Test
+	public void shouldParseInsideBuffer()
+	throws ParseException
+	{
+		CharBuffer json = CharBuffer.wrap("{\"at\":\"2010-04-07T11:52:13.123-07:00\",\"lenient\":\"2010-04-07T11:52:13.5Z\"}");
+		assertEquals(1270666333123L, adapter.parse(json, 7, 29).getTime());
+		assertEquals(1270641133005L, adapter.parseEpochMillis(json, 49, 22));
+	}
+
+	@Test
+	public void shouldParseBytes()
+	throws ParseException
+	{
+		byte[] bytes = "{\"at\":\"2010-04-07T11:52:13.123-07:00\"}".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(1270666333123L, adapter.parse(bytes, 7, 29).getTime());
+		assertEquals(1270666333123L, adapter.parseEpochMillis(bytes, 7, 29));
+	}
+
+	@Test
+	public void shouldParseDirectBuffer()
+	throws ParseException
+	{
+		ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+		buffer.put("at=2010-04-07T11:52:13.5Z;".getBytes(StandardCharsets.US_ASCII));
+		assertEquals(1270641133005L, adapter.parseEpochMillis(buffer, 3, 22));
+		assertEquals(26, buffer.position());
+	}
+
+	@Test
+	public void shouldFormatToAppendable()
+	throws IOException
+	{
+		assertEquals("2010-04-07T11:52:13Z", adapter.formatTo(new Date(1270641133123L), new StringBuilder()).toString());
+	}
+
+	@Test
+	public void shouldFormatToDirectBuffer()
+	{
+		ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+		assertEquals(23, adapter.formatTo(1270641133123L, buffer, 3));
+		assertEquals(0, buffer.position());
+		assertEquals((byte) '2', buffer.get(3));
+		assertEquals((byte) 'Z', buffer.get(22));
+	}
+
+	@Test
+	public void shouldFormatToWithCallback()
+	throws IOException
+	{
+		Iso8601TimepointAdapter callbackAdapter = new Iso8601TimepointAdapter();
+		callbackAdapter.setPostFormatCallback(s -> s.replace('T', ' '));
+		assertEquals("2010-04-07 11:52:13Z", callbackAdapter.formatTo(1270641133123L, new StringBuilder()).toString());
+	}
+
+	@Test
+	public void shouldParseWithOffset()
+	throws ParseException
+	{
+		OffsetTimepoint timepoint = new Iso8601TimepointAdapter().parseWithOffset("2010-04-07T11:52:13-07:00");
+		assertEquals(1270666333000L, timepoint.getEpochMillis());
+		assertEquals(-25200, timepoint.getOffsetSeconds());
+		assertEquals("2010-04-07T11:52:13-07:00", timepoint.toOffsetDateTime().toString());
+	}
+
+	@Test
+	public void shouldParseLenientWithOffset()
+	throws ParseException
+	{
+		OffsetTimepoint timepoint = new Iso8601TimepointAdapter().parseWithOffset("2010-4-7T11:52:13+0530");
+		assertEquals(1270621333000L, timepoint.getEpochMillis());
+		assertEquals(19800, timepoint.getOffsetSeconds());
+	}
+
+	@Test
+	public void shouldParseWithOffsetAfterCallback()
+	throws ParseException
+	{
+		Iso8601TimepointAdapter callbackAdapter = new Iso8601TimepointAdapter();
+		callbackAdapter.setPreParseCallback(s -> s.trim());
+		assertEquals(-7200, callbackAdapter.parseWithOffset(" 2010-04-07T11:52:13-02 ").getOffsetSeconds());
+	}
+
+	@Test
+	public void shouldRoundTripUnderNonGregorianLocale()
+	throws ParseException
+	{
+		Locale locale = Locale.getDefault();
+
+		try
+		{
+			for (String tag : new String[] {"th-TH", "ja-JP-u-ca-japanese"})
+			{
+				Locale.setDefault(Locale.forLanguageTag(tag));
+				Iso8601TimepointAdapter localized = new Iso8601TimepointAdapter();
+				Date date = new Date(1778716800000L);
+				assertEquals(tag, date, localized.parse(localized.format(date)));
+				assertEquals(tag, 1778716800000L, localized.parseWithOffset(localized.format(date)).getEpochMillis());
+			}
+		}
+		finally
+		{
+			Locale.setDefault(locale);
+		}
+	}
 }
@@ -0,0 +1,117 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.DATE_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601TimepointFormatterTest
+{
+	@Test
+	public void shouldFormatTimestamp()
+	{
+		assertEquals("2010-04-07T11:52:13.123Z", new Iso8601TimepointFormatter(true).format(1270641133123L));
+	}
+
+	@Test
+	public void shouldFormatTimepoint()
+	{
+		assertEquals("2010-04-07T11:52:13Z", new Iso8601TimepointFormatter(false).format(1270641133123L));
+	}
+
+	@Test
+	public void shouldFormatBeforeEpoch()
+	{
+		assertEquals("1969-12-31T23:59:59.999Z", new Iso8601TimepointFormatter(true).format(-1L));
+	}
+
+	@Test
+	public void shouldMatchSimpleDateFormat()
+	{
+		String[] patterns = {TIMESTAMP_OUTPUT_FORMAT, TIME_POINT_OUTPUT_FORMAT, DATE_OUTPUT_FORMAT};
+		Random random = new Random(8601L);
+
+		for (String pattern : patterns)
+		{
+			AsciiDateFormatter formatter = AsciiDateFormatter.forPattern(pattern);
+			SimpleDateFormat format = new SimpleDateFormat(pattern);
+			format.setTimeZone(UNIVERSAL_TIME_ZONE);
+
+			for (int i = 0; i < 2000; ++i)
+			{
+				long millis = -12219292800000L + (long) (random.nextDouble() * 265000000000000L);
+				assertEquals(format.format(new Date(millis)), formatter.format(millis));
+			}
+		}
+	}
+
+	@Test
+	public void shouldFormatIntoByteArray()
+	{
+		byte[] bytes = "[\"                        \"]".getBytes(StandardCharsets.US_ASCII);
+		int end = new Iso8601TimepointFormatter(true).format(1270641133123L, bytes, 2);
+		assertEquals(26, end);
+		assertEquals("[\"2010-04-07T11:52:13.123Z\"]", new String(bytes, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void shouldFormatIntoDirectBuffer()
+	{
+		ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+		buffer.position(5);
+		assertEquals(24, new Iso8601TimepointFormatter(false).format(1270641133123L, buffer, 4));
+		assertEquals(5, buffer.position());
+		byte[] bytes = new byte[20];
+		buffer.position(4);
+		buffer.get(bytes);
+		assertEquals("2010-04-07T11:52:13Z", new String(bytes, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void shouldFormatIntoAppendable()
+	throws IOException
+	{
+		StringBuilder out = new StringBuilder("at ");
+		new Iso8601TimepointFormatter(true).format(1270641133123L, out);
+		assertEquals("at 2010-04-07T11:52:13.123Z", out.toString());
+	}
+
+	@Test
+	public void shouldFormatAcrossDayBoundaries()
+	{
+		Iso8601TimepointFormatter formatter = new Iso8601TimepointFormatter(true);
+		assertEquals("2010-04-07T23:59:59.999Z", formatter.format(1270684799999L));
+		assertEquals("2010-04-08T00:00:00.000Z", formatter.format(1270684800000L));
+		assertEquals("2010-04-08T00:00:00.001Z", formatter.format(1270684800001L));
+		assertEquals("2010-04-07T23:59:59.999Z", formatter.format(1270684799999L));
+	}
+}
@@ -0,0 +1,162 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static com.strategicgains.util.date.DateAdapterConstants.TIMESTAMP_INPUT_FORMATS;
+import static com.strategicgains.util.date.DateAdapterConstants.TIME_POINT_OUTPUT_FORMAT;
+import static com.strategicgains.util.date.DateAdapterConstants.UNIVERSAL_TIME_ZONE;
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class Iso8601TimepointParserTest
+{
+	private static final String[] FORMATS =
+	{
+		"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+		"yyyy-MM-dd'T'HH:mm:ss.SSSZ",
+		"yyyy-MM-dd'T'HH:mm:ss.SSSXX",
+		"yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+		"yyyy-MM-dd'T'HH:mm:ss'Z'",
+		"yyyy-MM-dd'T'HH:mm:ssXXX",
+		"yyyy-MM-dd'T'HHmmss'Z'",
+		"yyyy-MM-dd'T'HHmmssX",
+		"yyyy-MM-dd'T'HH:mm'Z'",
+		"yyyy-MM-dd'T'HH:mmXXX",
+		"yyyy-MM-dd'T'HHmm'Z'",
+		"yyyy-MM-dd'T'HHmmZ"
+	};
+
+	private static final String[] ZONES = {"UTC", "GMT-07:00", "GMT+05:30", "GMT+10:45", "GMT-03:00", "GMT+14:00"};
+
+	private Iso8601TimepointParser parser = new Iso8601TimepointParser();
+
+	@Test
+	public void shouldParse_yyyy_MM_ddTHH_mm_ss_SSSZ()
+	throws ParseException
+	{
+		assertEquals(1270641133123L, parser.parse("2010-04-07T11:52:13.123Z"));
+	}
+
+	@Test
+	public void shouldParse_yyyy_MM_ddTHH_mm_ss_1045()
+	throws ParseException
+	{
+		assertEquals(1416441504000L, parser.parse("2014-11-20T10:43:24+10:45"));
+	}
+
+	@Test
+	public void shouldParse_yyyy_MM_ddTHHmm_07()
+	throws ParseException
+	{
+		assertEquals(1270666320000L, parser.parse("2010-04-07T1152-07"));
+	}
+
+	@Test
+	public void shouldParseLeapDay()
+	throws ParseException
+	{
+		assertEquals(951782400000L, parser.parse("2000-02-29T00:00Z"));
+	}
+
+	@Test
+	public void shouldMatchSimpleDateFormat()
+	throws ParseException
+	{
+		DateFormatProcessor legacy = new DateFormatProcessor(TIME_POINT_OUTPUT_FORMAT, TIMESTAMP_INPUT_FORMATS);
+		Iso8601TimepointCallback callback = new Iso8601TimepointCallback();
+		Random random = new Random(8601L);
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			Date date = new Date(-12219292800000L + (long) (random.nextDouble() * 265000000000000L));
+			SimpleDateFormat format = new SimpleDateFormat(FORMATS[i % FORMATS.length]);
+			format.setTimeZone(FORMATS[i % FORMATS.length].endsWith("'Z'") ? UNIVERSAL_TIME_ZONE : TimeZone.getTimeZone(ZONES[i % ZONES.length]));
+			String text = format.format(date);
+			assertEquals(text, legacy.parse(callback.process(text)).getTime(), parser.parse(text));
+		}
+	}
+
+	@Test
+	public void shouldMissLenientForms()
+	{
+		String[] lenient =
+		{
+			"2010-04-07T11:52:13.123",
+			"2010-04-07T11:52:13.12Z",
+			"2010-04-07T11:52:13Zjunk",
+			"2010-4-07T11:52:13Z",
+			"2010-04-07T11:52:13GMT-07:00",
+			"2010-04-07T24:00:00Z",
+			"2010-02-30T11:52:13Z",
+			"2010-04-07T11:60Z",
+			"2010-04-07T115213.123Z",
+			"2010-04-07T11:52:13+07:0",
+			"2010-04-07T11:52:13 07:00",
+			"1582-10-04T11:52:13Z",
+			"2010-04-07",
+			""
+		};
+
+		for (String text : lenient)
+		{
+			assertEquals(text, Iso8601TimepointParser.INVALID, parser.tryParse(text, 0, text.length()));
+		}
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldThrowParseException()
+	throws ParseException
+	{
+		parser.parse("todd-fredrich");
+	}
+
+	@Test
+	public void shouldKeepOffset()
+	throws ParseException
+	{
+		assertEquals(new OffsetTimepoint(1270666333123L, -25200), parser.parseWithOffset("2010-04-07T11:52:13.123-07:00"));
+		assertEquals(new OffsetTimepoint(1416959904000L, 38700), parser.parseWithOffset("2014-11-26T10:43:24+10:45"));
+		assertEquals(new OffsetTimepoint(1270641120000L, 0), parser.parseWithOffset("2010-04-07T11:52Z"));
+		assertEquals(new OffsetTimepoint(1270641120000L, 18000), parser.parseWithOffset("2010-04-07T1652+05"));
+	}
+
+	@Test
+	public void shouldKeepOffsetBeforeEpoch()
+	throws ParseException
+	{
+		OffsetTimepoint timepoint = parser.parseWithOffset("1583-01-01T00:00:00.001-23:59");
+		assertEquals(parser.parse("1583-01-01T00:00:00.001-23:59"), timepoint.getEpochMillis());
+		assertEquals(-86340, timepoint.getOffsetSeconds());
+		assertEquals(parser.parse("1583-01-01T00:00:00.001Z"), timepoint.getLocalMillis());
+	}
+
+	@Test
+	public void shouldNotKeepOffsetOfInvalidTimepoint()
+	{
+		assertEquals(null, parser.tryParseWithOffset("2010-04-07T11:52:13-24:00", 0, 25));
+	}
+}
@@ -0,0 +1,83 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.date;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class SwarDigitsTest
+{
+	@Test
+	public void shouldParseEveryFourDigitGroup()
+	{
+		for (int value = 0; value < 10000; ++value)
+		{
+			String digits = String.format("%04d", value);
+			assertEquals(value, SwarDigits.parse4(digits, 0));
+			assertEquals(value, SwarDigits.parsePairs("x" + digits.substring(0, 2) + "-" + digits.substring(2), 1, 4));
+		}
+	}
+
+	@Test
+	public void shouldParseEightDigitGroups()
+	{
+		Random random = new Random(11L);
+
+		for (int i = 0; i < 100000; ++i)
+		{
+			int value = random.nextInt(100000000);
+			assertEquals(value, SwarDigits.parse8("--" + String.format("%08d", value), 2));
+		}
+
+		assertEquals(99999999, SwarDigits.parse8("99999999", 0));
+		assertEquals(0, SwarDigits.parse8("00000000", 0));
+	}
+
+	@Test
+	public void shouldRejectEveryOtherChar()
+	{
+		for (char c = 0; c < 0x400; ++c)
+		{
+			if (c >= '0' && c <= '9')
+			{
+				continue;
+			}
+
+			for (int i = 0; i < 8; ++i)
+			{
+				char[] chars = "20100407".toCharArray();
+				chars[i] = c;
+				String text = new String(chars);
+				assertEquals(text, -1, SwarDigits.parse8(text, 0));
+
+				if (i < 4)
+				{
+					assertEquals(text, -1, SwarDigits.parse4(text, 0));
+				}
+			}
+		}
+
+		assertEquals(-1, SwarDigits.parse4("2\u0130010", 0));
+		assertEquals(-1, SwarDigits.parse8("201\u01300407", 0));
+	}
+}
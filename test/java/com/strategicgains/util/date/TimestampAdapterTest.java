@@ -20,6 +20,8 @@ package com.strategicgains.util.date;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
@@ -222,4 +224,41 @@ public class TimestampAdapterTest
 		assertEquals(0, calendar.get(Calendar.SECOND));
 		assertEquals(0, calendar.get(Calendar.MILLISECOND));
 	}
+
+	@Test
+	public void shouldParseEpochMillis()
+	throws ParseException
+	{
+		assertEquals(1270666333123L, adapter.parseEpochMillis("2010-04-07T11:52:13.123-0700"));
+	}
+
+	@Test
+	public void shouldFormatEpochMillis()
+	{
+		assertEquals("2010-04-07T11:52:13.123Z", adapter.formatEpochMillis(1270641133123L));
+	}
+
+	@Test
+	public void shouldFormatToAppendable()
+	throws IOException
+	{
+		StringBuilder json = adapter.formatTo(1270641133123L, new StringBuilder("{\"at\":\"")).append("\"}");
+		assertEquals("{\"at\":\"2010-04-07T11:52:13.123Z\"}", json.toString());
+	}
+
+	@Test
+	public void shouldFormatToBytes()
+	{
+		byte[] bytes = new byte[26];
+		assertEquals(25, adapter.formatTo(1270641133123L, bytes, 1));
+		assertEquals("2010-04-07T11:52:13.123Z", new String(bytes, 1, 24, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void shouldFormatOutOfRangeToBytes()
+	{
+		byte[] bytes = new byte[32];
+		int end = adapter.formatTo(-62135769600000L, bytes, 0);
+		assertEquals(adapter.formatEpochMillis(-62135769600000L), new String(bytes, 0, end, StandardCharsets.US_ASCII));
+	}
 }
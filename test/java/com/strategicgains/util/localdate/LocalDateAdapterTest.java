@@ -20,9 +20,13 @@ package com.strategicgains.util.localdate;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.BitSet;
 
 import org.junit.Test;
 
@@ -90,4 +94,86 @@ public class LocalDateAdapterTest
 		assertEquals(Month.APRIL, date.getMonth());
 		assertEquals(7, date.getDayOfMonth());
 	}
+
+	@Test
+	public void shouldParseInsideBuffer()
+	throws ParseException
+	{
+		LocalDate date = adapter.parse(new StringBuilder("id=7;since=20100407;"), 11, 8);
+		assertEquals(LocalDate.of(2010, 4, 7), date);
+	}
+
+	@Test
+	public void shouldFormatToAppendable()
+	throws IOException
+	{
+		assertEquals("since 2010-04-07", adapter.formatTo(LocalDate.of(2010, 4, 7), new StringBuilder("since ")).toString());
+	}
+
+	@Test
+	public void shouldFormatToBytes()
+	{
+		byte[] bytes = new byte[12];
+		assertEquals(11, adapter.formatTo(LocalDate.of(2010, 4, 7), bytes, 1));
+		assertEquals("2010-04-07", new String(bytes, 1, 10, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void shouldFormatOutOfRangeToBuffer()
+	{
+		LocalDate date = LocalDate.of(1000, 1, 1);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+		assertEquals(10, adapter.formatTo(date, buffer, 0));
+		assertEquals((byte) '1', buffer.get(0));
+		assertEquals((byte) '0', buffer.get(3));
+	}
+
+	@Test
+	public void shouldParseEpochDay()
+	throws ParseException
+	{
+		assertEquals(14706L, adapter.parseEpochDay("2010-04-07", 0, 10));
+		assertEquals(14706L, adapter.parseEpochDay("20100407", 0, 8));
+		assertEquals(14706L, adapter.parseEpochDay("04/07/2010", 0, 10));
+	}
+
+	@Test
+	public void shouldParseLenientDatesAsBefore()
+	throws ParseException
+	{
+		assertEquals(LocalDate.of(2010, 3, 2), adapter.parse("2010-02-30"));
+	}
+
+	@Test
+	public void shouldFormatFromTable()
+	{
+		LocalDateAdapter table = new LocalDateAdapter(LocalDate.of(1970, 1, 1), LocalDate.of(2100, 12, 31));
+
+		for (LocalDate date = LocalDate.of(1969, 12, 1); date.getYear() < 2102; date = date.plusDays(13))
+		{
+			assertEquals(adapter.format(date), table.format(date));
+		}
+
+		assertEquals("2100-12-31", table.format(LocalDate.of(2100, 12, 31)));
+		assertEquals("1970-01-01", table.format(LocalDate.of(1970, 1, 1)));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectEmptyRange()
+	{
+		new LocalDateAdapter(LocalDate.of(2010, 1, 2), LocalDate.of(2010, 1, 1));
+	}
+
+	@Test
+	public void shouldParseAllToEpochDays()
+	{
+		long[] out = new long[4];
+		BitSet failures = adapter.parseAll(new String[] {"2010-04-07", "1969-12-31", "garbage", "04/07/2010"}, out);
+
+		assertEquals(1, failures.cardinality());
+		assertEquals(LocalDate.of(2010, 4, 7).toEpochDay(), out[0]);
+		assertEquals(-1L, out[1]);
+		assertEquals(0L, out[2]);
+		assertEquals(LocalDate.of(2010, 4, 7).toEpochDay(), out[3]);
+	}
 }
@@ -0,0 +1,138 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.normalize;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.strategicgains.util.date.HttpHeaderTimestampAdapter;
+import com.strategicgains.util.date.TimestampAdapter;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class TimestampNormalizerTest
+{
+	private TimestampNormalizer normalizer = new TimestampNormalizer(new HttpHeaderTimestampAdapter(), new TimestampAdapter(), ',', 1);
+
+	@Test
+	public void shouldNormalizeQuotedColumn()
+	{
+		assertEquals("1,\"1994-11-06T08:49:37.000Z\",x\n2,\"1994-11-07T08:49:37.000Z\"\r\n",
+			normalize("1,\"Sun, 06 Nov 1994 08:49:37 GMT\",x\n2,\"Mon, 07 Nov 1994 08:49:37 GMT\"\r\n"));
+		assertEquals(2, normalizer.getNormalizedCount());
+	}
+
+	@Test
+	public void shouldNormalizeUnquotedColumn()
+	{
+		assertEquals("a,1994-11-06T08:49:37.000Z,b", normalize("a,Sun Nov  6 08:49:37 1994,b"));
+	}
+
+	@Test
+	public void shouldKeepUnparseableFields()
+	{
+		String text = "a,not a date,b\nb,,c\nshort\n";
+		assertEquals(text, normalize(text));
+		assertEquals(3, normalizer.getLineCount());
+		assertEquals(2, normalizer.getUnparseableCount());
+	}
+
+	@Test
+	public void shouldStreamInChunks()
+	throws IOException
+	{
+		StringBuilder in = new StringBuilder("id,when\n");
+		StringBuilder expected = new StringBuilder("id,when\n");
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			in.append(i).append(",\"Sun, 06 Nov 1994 08:49:").append(i % 60 < 10 ? "0" : "").append(i % 60).append(" GMT\"\n");
+			expected.append(i).append(",\"1994-11-06T08:49:").append(i % 60 < 10 ? "0" : "").append(i % 60).append(".000Z\"\n");
+		}
+
+		in.append("last,bogus");
+		expected.append("last,bogus");
+		Path source = Files.createTempFile("normalize", ".csv");
+		Path target = Files.createTempFile("normalized", ".csv");
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try
+		{
+			Files.write(source, in.toString().getBytes(StandardCharsets.US_ASCII));
+			normalizer.setHeaderLines(1);
+			normalizer.setChunkSize(16);
+			normalizer.setMaxChunksInFlight(4);
+			normalizer.normalize(source, target, executor);
+			assertEquals(expected.toString(), new String(Files.readAllBytes(target), StandardCharsets.US_ASCII));
+			assertEquals(2000, normalizer.getNormalizedCount());
+			assertEquals(1, normalizer.getUnparseableCount());
+		}
+		finally
+		{
+			executor.shutdown();
+			Files.delete(source);
+			Files.delete(target);
+		}
+	}
+
+	@Test
+	public void shouldRunFromCommandLine()
+	throws IOException
+	{
+		Path source = Files.createTempFile("normalize", ".tsv");
+		Path target = Files.createTempFile("normalized", ".tsv");
+
+		try
+		{
+			Files.write(source, "2010-04-07T11:52:13-07:00\tx\n".getBytes(StandardCharsets.US_ASCII));
+			ByteArrayOutputStream summary = new ByteArrayOutputStream();
+			assertEquals(0, NormalizeTimestamps.run(new PrintStream(summary, true, "US-ASCII"),
+				"-d", "tab", "--from", "iso8601", "--threads", "2", source.toString(), target.toString()));
+			assertEquals("2010-04-07T18:52:13.000Z\tx\n", new String(Files.readAllBytes(target), StandardCharsets.US_ASCII));
+			assertEquals("lines=1 normalized=1 unparseable=0", summary.toString("US-ASCII").trim());
+		}
+		finally
+		{
+			Files.delete(source);
+			Files.delete(target);
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectUnknownAdapter()
+	throws IOException
+	{
+		NormalizeTimestamps.run(System.err, "--from", "nope", "in", "out");
+	}
+
+	private String normalize(String text)
+	{
+		byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+		return new String(normalizer.normalizeLines(bytes, 0, bytes.length), StandardCharsets.US_ASCII);
+	}
+}
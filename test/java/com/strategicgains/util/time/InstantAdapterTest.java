@@ -0,0 +1,81 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.time.Instant;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class InstantAdapterTest
+{
+	private static final Instant EXPECTED = Instant.parse("2010-04-07T18:52:13.123Z");
+
+	private InstantAdapter adapter = new InstantAdapter();
+
+	@Test
+	public void shouldOutputTimestamp()
+	{
+		assertEquals("2010-04-07T18:52:13.123Z", adapter.format(EXPECTED));
+	}
+
+	@Test
+	public void shouldTruncateToMillis()
+	{
+		assertEquals("2010-04-07T18:52:13.123Z", adapter.format(EXPECTED.plusNanos(999999)));
+	}
+
+	@Test
+	public void shouldParseEveryZoneForm()
+	throws ParseException
+	{
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T18:52:13.123Z"));
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T11:52:13.123-07:00"));
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T11:52:13.123-0700"));
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T11:52:13.123-07"));
+		assertEquals(EXPECTED.minusMillis(123), adapter.parse("2010-04-07T11:52:13-07:00"));
+		assertEquals(EXPECTED.minusMillis(13123), adapter.parse("2010-04-07T1152-07:00"));
+	}
+
+	@Test
+	public void shouldRoundTripOutsideFastRange()
+	throws ParseException
+	{
+		Instant early = Instant.parse("1066-10-14T09:00:00.500Z");
+		assertEquals("1066-10-14T09:00:00.500Z", adapter.format(early));
+		assertEquals(early, adapter.parse("1066-10-14T09:00:00.500Z"));
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldRequireZone()
+	throws ParseException
+	{
+		adapter.parse("2010-04-07T18:52:13.123");
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldRejectInvalidDate()
+	throws ParseException
+	{
+		adapter.parse("2010-02-30T18:52:13Z");
+	}
+}
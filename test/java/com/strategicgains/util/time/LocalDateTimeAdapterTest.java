@@ -0,0 +1,73 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class LocalDateTimeAdapterTest
+{
+	private static final LocalDateTime EXPECTED = LocalDateTime.of(2010, 4, 7, 18, 52, 13, 123000000);
+
+	private LocalDateTimeAdapter adapter = new LocalDateTimeAdapter();
+
+	@Test
+	public void shouldOutputTimestamp()
+	{
+		assertEquals("2010-04-07T18:52:13.123Z", adapter.format(EXPECTED));
+	}
+
+	@Test
+	public void shouldParseAsUtc()
+	throws ParseException
+	{
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T18:52:13.123Z"));
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T11:52:13.123-07:00"));
+	}
+
+	@Test
+	public void shouldParseWithoutZone()
+	throws ParseException
+	{
+		assertEquals(EXPECTED, adapter.parse("2010-04-07T18:52:13.123"));
+	}
+
+	@Test
+	public void shouldRoundTripBeforeEpoch()
+	throws ParseException
+	{
+		LocalDateTime before = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1000000);
+		assertEquals("1969-12-31T23:59:59.001Z", adapter.format(before));
+		assertEquals(before, adapter.parse(adapter.format(before)));
+	}
+
+	@Test
+	public void shouldRoundTripOutsideFastRange()
+	throws ParseException
+	{
+		LocalDateTime early = LocalDateTime.of(1066, 10, 14, 9, 0);
+		assertEquals("1066-10-14T09:00:00.000Z", adapter.format(early));
+		assertEquals(early, adapter.parse(adapter.format(early)));
+	}
+}
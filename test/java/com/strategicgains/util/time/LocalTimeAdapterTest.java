@@ -0,0 +1,70 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.time.LocalTime;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class LocalTimeAdapterTest
+{
+	private LocalTimeAdapter adapter = new LocalTimeAdapter();
+
+	@Test
+	public void shouldOutputMillis()
+	{
+		assertEquals("11:52:13.123", adapter.format(LocalTime.of(11, 52, 13, 123456789)));
+	}
+
+	@Test
+	public void shouldParseEveryInputFormat()
+	throws ParseException
+	{
+		assertEquals(LocalTime.of(11, 52, 13, 123000000), adapter.parse("11:52:13.123"));
+		assertEquals(LocalTime.of(11, 52, 13), adapter.parse("11:52:13"));
+		assertEquals(LocalTime.of(11, 52, 13), adapter.parse("115213"));
+		assertEquals(LocalTime.of(11, 52), adapter.parse("11:52"));
+		assertEquals(LocalTime.of(11, 52), adapter.parse("1152"));
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldRejectInvalidHour()
+	throws ParseException
+	{
+		adapter.parse("25:00");
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldRejectEmptyString()
+	throws ParseException
+	{
+		adapter.parse("");
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldRejectTrailingText()
+	throws ParseException
+	{
+		adapter.parse("11:52:13Z");
+	}
+}
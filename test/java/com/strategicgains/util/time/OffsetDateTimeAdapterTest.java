@@ -0,0 +1,80 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class OffsetDateTimeAdapterTest
+{
+	private OffsetDateTimeAdapter adapter = new OffsetDateTimeAdapter();
+
+	@Test
+	public void shouldKeepOffset()
+	throws ParseException
+	{
+		OffsetDateTime parsed = adapter.parse("2010-04-07T11:52:13.123-0700");
+		assertEquals(OffsetDateTime.of(2010, 4, 7, 11, 52, 13, 123000000, ZoneOffset.ofHours(-7)), parsed);
+		assertEquals("2010-04-07T11:52:13.123-07:00", adapter.format(parsed));
+	}
+
+	@Test
+	public void shouldParseUtc()
+	throws ParseException
+	{
+		OffsetDateTime parsed = adapter.parse("2010-04-07T18:52Z");
+		assertEquals(ZoneOffset.UTC, parsed.getOffset());
+		assertEquals("2010-04-07T18:52:00.000Z", adapter.format(parsed));
+	}
+
+	@Test
+	public void shouldParseHalfHourOffset()
+	throws ParseException
+	{
+		assertEquals(ZoneOffset.ofHoursMinutes(10, 45), adapter.parse("2014-11-20T10:43:24+10:45").getOffset());
+	}
+
+	@Test(expected=ParseException.class)
+	public void shouldRequireZone()
+	throws ParseException
+	{
+		adapter.parse("2010-04-07T11:52:13");
+	}
+
+	@Test
+	public void shouldRejectOffsetBeyondEighteenHours()
+	{
+		try
+		{
+			adapter.parse("2010-04-07T11:52:13+23:00");
+			fail("ParseException expected");
+		}
+		catch (ParseException e)
+		{
+			// expected
+		}
+	}
+}
@@ -0,0 +1,273 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.vector;
+
+import java.text.ParseException;
+import java.util.BitSet;
+
+import com.strategicgains.util.date.DateAdapter;
+import com.strategicgains.util.date.EpochDays;
+import com.strategicgains.util.date.TimestampAdapter;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Parses a column of TIMESTAMP_OUTPUT_FORMAT time stamps (e.g. 2010-04-07T11:52:13.123Z), stored as
+ * US-ASCII records at a fixed stride in a byte[], with the Vector API.  Each 24-byte record is loaded
+ * into one 256-bit vector, and every lane is checked at once: digit lanes must hold '0' to '9' and the
+ * other lanes the separators ('-', 'T', ':', '.' and 'Z').  The digits are then combined into two-digit
+ * pairs in the lanes (tens times ten plus units), leaving only the calendar check and the epoch
+ * arithmetic per record.
+ * <p>
+ * Records that don't match the layout exactly, fail the calendar check, or lie too close to the end of
+ * the array for a full vector load are handed to the fallback DateAdapter (by default a
+ * TimestampAdapter), so lenient input is still accepted.  Every record gives exactly the result the
+ * fallback would on its own: the fallback is checked on a sample record when the parser is created, and
+ * if it doesn't read TIMESTAMP_OUTPUT_FORMAT as a UTC time stamp (e.g. a DateAdapter, which keeps only
+ * the date), every record goes to the fallback.  So does every record when the hardware has no 256-bit
+ * vectors.
+ * Records parsed in vector lanes don't pass through the fallback's parse callbacks, so the fallback
+ * should be an adapter without them.
+ * <p>
+ * Needs Java 17 or later, run with --add-modules jdk.incubator.vector.  Instances hold no per-call
+ * state, so one may be shared between threads if its fallback adapter may.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class VectorTimestampParser
+{
+	/**
+	 * The length of a TIMESTAMP_OUTPUT_FORMAT time stamp.
+	 */
+	public static final int RECORD_LENGTH = 24;
+
+	private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_256;
+	private static final String TEMPLATE = "0000-00-00T00:00:00.000Z";
+	private static final String SAMPLE = "2010-04-07T11:52:13.123Z";
+	private static final long SAMPLE_MILLIS = 1270641133123L;
+	private static final ByteVector SEPARATORS;
+	private static final VectorMask<Byte> DIGIT_LANES;
+	private static final VectorMask<Byte> SEPARATOR_LANES;
+	private static final VectorMask<Byte> UNUSED_LANES;
+	private static final ByteVector TENS;
+
+	static
+	{
+		byte[] separators = new byte[SPECIES.length()];
+		boolean[] digitLanes = new boolean[SPECIES.length()];
+		boolean[] separatorLanes = new boolean[SPECIES.length()];
+		boolean[] unusedLanes = new boolean[SPECIES.length()];
+		byte[] tens = new byte[SPECIES.length()];
+
+		for (int i = 0; i < SPECIES.length(); ++i)
+		{
+			if (i >= TEMPLATE.length())
+			{
+				unusedLanes[i] = true;
+			}
+			else if (TEMPLATE.charAt(i) == '0')
+			{
+				digitLanes[i] = true;
+			}
+			else
+			{
+				separators[i] = (byte) TEMPLATE.charAt(i);
+				separatorLanes[i] = true;
+			}
+		}
+
+		// The tens digit of each pair: yy, yy, MM, dd, HH, mm, ss and the last two digits of SSS.  Lane 19
+		// (the '.') gets no weight, so it picks up the first digit of SSS alone.
+		for (int lane : new int[] {0, 2, 5, 8, 11, 14, 17, 21})
+		{
+			tens[lane] = 10;
+		}
+
+		SEPARATORS = ByteVector.fromArray(SPECIES, separators, 0);
+		DIGIT_LANES = VectorMask.fromArray(SPECIES, digitLanes, 0);
+		SEPARATOR_LANES = VectorMask.fromArray(SPECIES, separatorLanes, 0);
+		UNUSED_LANES = VectorMask.fromArray(SPECIES, unusedLanes, 0);
+		TENS = ByteVector.fromArray(SPECIES, tens, 0);
+	}
+
+	private DateAdapter fallback;
+	private boolean isVectorized;
+
+	/**
+	 * Creates a parser that hands records it can't parse to a TimestampAdapter.
+	 */
+	public VectorTimestampParser()
+	{
+		this(new TimestampAdapter());
+	}
+
+	/**
+	 * @param fallback parses the records that aren't strict TIMESTAMP_OUTPUT_FORMAT time stamps.
+	 */
+	public VectorTimestampParser(DateAdapter fallback)
+	{
+		this(fallback, isSupported());
+	}
+
+	VectorTimestampParser(DateAdapter fallback, boolean isVectorized)
+	{
+		this.fallback = fallback;
+		this.isVectorized = isVectorized && isStrictTimestamp(fallback);
+	}
+
+	/**
+	 * @return true if this parser parses records in vector lanes.
+	 */
+	public boolean isVectorized()
+	{
+		return isVectorized;
+	}
+
+	/**
+	 * @return true if the hardware has vectors of 256 bits or more, so records are parsed in vector lanes.
+	 */
+	public static boolean isSupported()
+	{
+		return ByteVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+	}
+
+	/**
+	 * Parses count records of recordLength bytes, the first at offset and each following one stride
+	 * bytes after the one before (e.g. a stride of 25 for time stamps separated by newlines).  Only
+	 * records of RECORD_LENGTH bytes are parsed in vector lanes; others all go to the fallback adapter.
+	 *
+	 * @param bytes the US-ASCII records.
+	 * @param offset the index of the first record.
+	 * @param stride the distance from the start of one record to the start of the next.
+	 * @param recordLength the length of each record, at most stride.
+	 * @param count the number of records.
+	 * @param outEpochMillis receives the epoch milliseconds of record i at index i.  Failed records are
+	 * left unchanged.
+	 * @return the records that failed to parse, which is empty if every record parsed.
+	 * @throws IllegalArgumentException if the records don't fit in bytes or outEpochMillis is shorter than count.
+	 */
+	public BitSet parseAll(byte[] bytes, int offset, int stride, int recordLength, int count, long[] outEpochMillis)
+	{
+		if (offset < 0 || recordLength < 0 || recordLength > stride || count < 0
+			|| (count > 0 && offset + (long) (count - 1) * stride + recordLength > bytes.length))
+		{
+			throw new IllegalArgumentException("records don't fit: offset " + offset + ", stride " + stride
+				+ ", record length " + recordLength + ", count " + count + ", size " + bytes.length);
+		}
+
+		if (outEpochMillis.length < count)
+		{
+			throw new IllegalArgumentException("output length " + outEpochMillis.length + " < input size " + count);
+		}
+
+		BitSet failures = new BitSet();
+		byte[] pairs = new byte[SPECIES.length()];
+		boolean isVectorized = (this.isVectorized && recordLength == RECORD_LENGTH);
+
+		for (int i = 0; i < count; ++i)
+		{
+			int start = offset + i * stride;
+
+			if (isVectorized && start + SPECIES.length() <= bytes.length && parse(bytes, start, pairs))
+			{
+				long millis = toEpochMillis(pairs);
+
+				if (millis != Long.MIN_VALUE)
+				{
+					outEpochMillis[i] = millis;
+					continue;
+				}
+			}
+
+			try
+			{
+				outEpochMillis[i] = fallback.parseEpochMillis(bytes, start, recordLength);
+			}
+			catch (ParseException e)
+			{
+				failures.set(i);
+			}
+		}
+
+		return failures;
+	}
+
+
+	// SECTION: UTILITY - PRIVATE
+
+	/**
+	 * Answers whether the fallback reads a TIMESTAMP_OUTPUT_FORMAT record as the UTC instant it shows,
+	 * as the vector lanes do.
+	 */
+	private static boolean isStrictTimestamp(DateAdapter fallback)
+	{
+		try
+		{
+			return fallback.parseEpochMillis(SAMPLE) == SAMPLE_MILLIS;
+		}
+		catch (ParseException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Checks the record at start against the layout and writes its digit pairs into pairs.
+	 *
+	 * @return false if the record doesn't have the layout.
+	 */
+	private static boolean parse(byte[] bytes, int start, byte[] pairs)
+	{
+		ByteVector record = ByteVector.fromArray(SPECIES, bytes, start);
+		ByteVector digits = record.sub((byte) '0');
+		VectorMask<Byte> isValid = digits.compare(VectorOperators.UNSIGNED_LT, (byte) 10).and(DIGIT_LANES)
+			.or(record.compare(VectorOperators.EQ, SEPARATORS).and(SEPARATOR_LANES))
+			.or(UNUSED_LANES);
+
+		if (!isValid.allTrue())
+		{
+			return false;
+		}
+
+		digits.mul(TENS).add(digits.slice(1)).intoArray(pairs, 0);
+		return true;
+	}
+
+	/**
+	 * @return the epoch milliseconds of the pairs, or Long.MIN_VALUE if they aren't a valid date and time.
+	 */
+	private static long toEpochMillis(byte[] pairs)
+	{
+		int year = pairs[0] * 100 + pairs[2];
+		int month = pairs[5];
+		int day = pairs[8];
+		int hour = pairs[11];
+		int minute = pairs[14];
+		int second = pairs[17];
+		int millis = pairs[19] * 100 + pairs[21];
+
+		if (!EpochDays.isValid(year, month, day) || hour > 23 || minute > 59 || second > 59)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		return EpochDays.toEpochMillis(year, month, day, hour, minute, second, millis);
+	}
+}
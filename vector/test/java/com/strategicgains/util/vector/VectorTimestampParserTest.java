@@ -0,0 +1,114 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.util.vector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.strategicgains.util.date.DateAdapter;
+import com.strategicgains.util.date.TimestampAdapter;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class VectorTimestampParserTest
+{
+	private static final String[] ODD_RECORDS = {"2010-04-07T11:52:13-0700", "2010-13-07T11:52:13.123Z",
+		"2010-02-30T11:52:13.123Z", "2010-04-07T24:52:13.123Z", "0999-04-07T11:52:13.123Z", "2010-04-07 11:52:13.123Z",
+		"2010-04-07T11:52:1x.123Z", "2010/04/07T11:52:13.123Z", "07 Apr 2010 11:52:13 GMT"};
+
+	private TimestampAdapter adapter = new TimestampAdapter();
+
+	@Test
+	public void shouldParseAsFallback()
+	throws ParseException
+	{
+		Random random = new Random(5L);
+		int count = 20000;
+		int stride = VectorTimestampParser.RECORD_LENGTH + 1;
+		StringBuilder column = new StringBuilder();
+		String[] records = new String[count];
+
+		for (int i = 0; i < count; ++i)
+		{
+			if (random.nextInt(20) == 0)
+			{
+				records[i] = ODD_RECORDS[random.nextInt(ODD_RECORDS.length)];
+			}
+			else
+			{
+				records[i] = adapter.formatEpochMillis(-12000000000000L + (long) (random.nextDouble() * 260000000000000L));
+			}
+
+			column.append(records[i]).append('\n');
+		}
+
+		byte[] bytes = column.toString().getBytes(StandardCharsets.US_ASCII);
+		long[] out = new long[count];
+		BitSet failures = new VectorTimestampParser(adapter, true).parseAll(bytes, 0, stride, stride - 1, count, out);
+
+		for (int i = 0; i < count; ++i)
+		{
+			try
+			{
+				assertEquals(records[i], adapter.parseEpochMillis(records[i]), out[i]);
+				assertTrue(records[i], !failures.get(i));
+			}
+			catch (ParseException e)
+			{
+				assertTrue(records[i], failures.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void shouldParseWithoutVectors()
+	{
+		byte[] bytes = "x2010-04-07T11:52:13.123Z".getBytes(StandardCharsets.US_ASCII);
+		long[] out = new long[1];
+		assertTrue(new VectorTimestampParser(adapter, false).parseAll(bytes, 1, 24, 24, 1, out).isEmpty());
+		assertEquals(1270641133123L, out[0]);
+	}
+
+	@Test
+	public void shouldNotVectorizeForDateFallback()
+	throws ParseException
+	{
+		DateAdapter dates = new DateAdapter();
+		VectorTimestampParser parser = new VectorTimestampParser(dates, true);
+		byte[] bytes = "2010-04-07T11:52:13.123Z".getBytes(StandardCharsets.US_ASCII);
+		long[] out = new long[1];
+		parser.parseAll(bytes, 0, 24, 24, 1, out);
+		assertFalse(parser.isVectorized());
+		assertEquals(dates.parseEpochMillis("2010-04-07T11:52:13.123Z"), out[0]);
+		assertTrue(new VectorTimestampParser(adapter, true).isVectorized());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectRecordsPastEnd()
+	{
+		new VectorTimestampParser().parseAll(new byte[48], 1, 24, 24, 2, new long[2]);
+	}
+}